@@ -2,12 +2,26 @@ package com.fdmgroup.EmployeeApiAndreea;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @SpringBootApplication
+@EnableCaching
 public class EmployeeApiAndreeaApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(EmployeeApiAndreeaApplication.class, args);
 	}
 
+	/**
+	 * Records a timer for every method of classes annotated with {@code @Timed}.
+	 */
+	@Bean
+	public TimedAspect timedAspect(MeterRegistry registry) {
+		return new TimedAspect(registry);
+	}
+
 }
@@ -1,10 +1,21 @@
 package com.fdmgroup.EmployeeApiAndreea.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
+import java.util.function.ToLongFunction;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,15 +25,39 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fdmgroup.EmployeeApiAndreea.exception.InvalidBatchRequestException;
+import com.fdmgroup.EmployeeApiAndreea.exception.InvalidExportRequestException;
+import com.fdmgroup.EmployeeApiAndreea.exception.InvalidPageRequestException;
+import com.fdmgroup.EmployeeApiAndreea.model.BatchItemResult;
 import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeeChange;
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeeDelta;
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeePatch;
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeeSort;
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeeSummary;
+import com.fdmgroup.EmployeeApiAndreea.model.ImportReport;
+import com.fdmgroup.EmployeeApiAndreea.model.SalaryStats;
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeChangeCounter;
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeChangeLog;
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeChangeRelay;
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeExporter;
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeImporter;
 import com.fdmgroup.EmployeeApiAndreea.service.EmployeeService;
+import com.fdmgroup.EmployeeApiAndreea.service.SalaryStatistics;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -33,22 +68,128 @@ import jakarta.validation.Valid;
 @RequestMapping("api/v1/employees")
 public class EmployeeController {
 
+	static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+	static final String PREV_CURSOR_HEADER = "X-Prev-Cursor";
+	private static final int DEFAULT_PAGE_SIZE = 100;
+	private static final int MAX_PAGE_SIZE = 1000;
+	private static final String CSV_VALUE = "text/csv";
+	private static final String EXPORT_CSV_VALUE = CSV_VALUE + ";charset=UTF-8";
+	private static final int EXPORT_GZIP_BUFFER_SIZE = 8192;
+
 	private final EmployeeService employeeService;
+	private final EmployeeChangeCounter changeCounter;
+	private final EmployeeExporter employeeExporter;
+	private final EmployeeImporter employeeImporter;
+	private final EmployeeChangeLog changeLog;
+	private final EmployeeChangeRelay changeRelay;
+	private final Duration changeStreamTimeout;
+	private final ObjectMapper objectMapper;
 	private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
 
-	public EmployeeController(EmployeeService employeeService) {
+	public EmployeeController(EmployeeService employeeService, EmployeeChangeCounter changeCounter,
+			EmployeeExporter employeeExporter, EmployeeImporter employeeImporter, EmployeeChangeLog changeLog,
+			EmployeeChangeRelay changeRelay,
+			@Value("${employee.changes.stream-timeout:30m}") Duration changeStreamTimeout, ObjectMapper objectMapper) {
 		super();
 		this.employeeService = employeeService;
+		this.changeCounter = changeCounter;
+		this.employeeExporter = employeeExporter;
+		this.employeeImporter = employeeImporter;
+		this.changeLog = changeLog;
+		this.changeRelay = changeRelay;
+		this.changeStreamTimeout = changeStreamTimeout;
+		this.objectMapper = objectMapper;
 	}
 
 	/**
-	 * Retrieves all employees.
+	 * Retrieves one keyset page of employees, ordered by ID or by last name.
+	 * Without {@code limit} the page holds {@value #DEFAULT_PAGE_SIZE}
+	 * employees, and without a cursor it is the first page. The
+	 * {@value #NEXT_CURSOR_HEADER} header carries the cursor of the next page
+	 * when there may be more, and {@value #PREV_CURSOR_HEADER} the cursor of the
+	 * previous page when the page does not start at the beginning.
+	 *
+	 * <p>
+	 * Responses carry a weak ETag derived from the table change counter, which
+	 * is the same on every instance; a matching {@code If-None-Match} is
+	 * answered with 304 before any employee is read.
 	 *
-	 * @return the ResponseEntity containing the list of all employees
+	 * @param limit   the maximum number of employees to return
+	 * @param after   the cursor after which the page starts
+	 * @param before  the cursor before which the page ends
+	 * @param sort    the order of the page, {@code id} (default) or
+	 *                {@code lastName}
+	 * @param request the current request, for conditional GET handling
+	 * @return the ResponseEntity containing the employees
 	 */
 	@Operation(
 		summary = "Retrieves all employees",
-		description = "This API endpoint retrieves all the employees.",
+		description = "This API endpoint retrieves one keyset page of the employees, of 100 unless limit is given, ordered by ID or last name.",
+		method = "GET",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Successful operation",
+				content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+			),
+			@ApiResponse(
+				responseCode = "304",
+				description = "Not modified since the ETag in If-None-Match"
+			),
+			@ApiResponse(
+				responseCode = "400",
+				description = "Unknown sort, malformed cursor, or both after and before given"
+			)
+		}
+	)
+	@GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<List<Employee>> getEmployees(@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String after, @RequestParam(required = false) String before,
+			@RequestParam(required = false) String sort, WebRequest request) {
+		EmployeeChangeCounter.Tag tag = changeCounter.current();
+		if (request.checkNotModified(tag.etag())) {
+			return null;
+		}
+		if (after != null && before != null) {
+			throw new InvalidPageRequestException("Only one of after and before may be given.");
+		}
+		EmployeeSort order = EmployeeSort.of(sort);
+		int pageSize = pageSize(limit);
+		boolean backwards = before != null;
+		String cursor = backwards ? before : after;
+		List<Employee> employees = cursor == null && order == EmployeeSort.ID
+				? employeeService.findFirstPage(pageSize, tag.position())
+				: employeeService.findPage(order, cursor == null ? null : order.parse(cursor), backwards, pageSize);
+		ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK).eTag(tag.etag())
+				.cacheControl(CacheControl.noCache());
+		if (!employees.isEmpty()) {
+			// Reading backwards the page ends next to an employee that follows it,
+			// reading forwards it starts next to one that precedes it
+			if (backwards || employees.size() == pageSize) {
+				response.header(NEXT_CURSOR_HEADER, order.cursorOf(employees.get(employees.size() - 1)));
+			}
+			if (backwards ? employees.size() == pageSize : cursor != null) {
+				response.header(PREV_CURSOR_HEADER, order.cursorOf(employees.get(0)));
+			}
+		}
+		return response.body(employees);
+	}
+
+	/**
+	 * Retrieves what changed in the employees since a sync token, so a client
+	 * holding a copy of all employees only fetches the employees created or
+	 * updated since then and the IDs of those deleted. Pass 0 the first time to
+	 * receive all employees; every response carries the token for the next
+	 * call. When the client is too far behind, all employees are sent again,
+	 * flagged as {@code full}.
+	 *
+	 * @param modifiedSince the token of the previous response, 0 for the first
+	 *                      call
+	 * @return the ResponseEntity containing the delta
+	 */
+	@Operation(
+		summary = "Retrieves employee changes since a sync token",
+		description = "This API endpoint returns the employees created or updated and the IDs of those deleted since the token of a previous call, or all employees for token 0.",
 		method = "GET",
 		responses = {
 			@ApiResponse(
@@ -58,18 +199,196 @@ public class EmployeeController {
 			)
 		}
 	)
-	@GetMapping
-	public ResponseEntity<List<Employee>> getEmployees() {
-		logger.info("Entering getEmployees() method");
-		List<Employee> employees = employeeService.findAll();
-		logger.info("Exiting getEmployees() method");
-		return ResponseEntity.status(HttpStatus.OK).body(employees);
+	@GetMapping(params = "modifiedSince", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<EmployeeDelta> getEmployeesModifiedSince(@RequestParam long modifiedSince) {
+		EmployeeDelta delta = changeLog.findModifiedSince(modifiedSince);
+		return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(delta);
+	}
+
+	/**
+	 * Streams all employees as newline-delimited JSON, one employee per line, in
+	 * ID order. Rows are read through a database cursor and written as they
+	 * arrive, so memory use does not depend on the number of employees.
+	 *
+	 * @return the ResponseEntity streaming the employees
+	 */
+	@Operation(
+		summary = "Streams all employees",
+		description = "This API endpoint streams all the employees as NDJSON.",
+		method = "GET",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Successful operation",
+				content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)
+			)
+		}
+	)
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamEmployees() {
+		StreamingResponseBody body = outputStream -> employeeService.forEachEmployee(employee -> {
+			try {
+				outputStream.write(objectMapper.writeValueAsBytes(employee));
+				outputStream.write('\n');
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
+
+	/**
+	 * Exports all employees as CSV (with a header row) or as newline-delimited
+	 * JSON, in ID order, for bulk consumers such as payroll. Rows are read
+	 * through a forward-only JDBC cursor and written as they arrive, so memory
+	 * use does not depend on the number of employees and the first bytes are
+	 * sent straight away. With {@code gzip=true} the body is gzip-compressed
+	 * as it is written and sent with {@code Content-Encoding: gzip}.
+	 *
+	 * @param format {@code csv} (default) or {@code ndjson}
+	 * @param gzip   whether to compress the body
+	 * @return the ResponseEntity streaming the export as an attachment
+	 * @throws InvalidExportRequestException if the format is neither
+	 */
+	@Operation(
+		summary = "Exports all employees",
+		description = "This API endpoint streams all the employees as CSV or NDJSON, optionally gzip-compressed.",
+		method = "GET",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Successful operation",
+				content = {
+					@Content(mediaType = EXPORT_CSV_VALUE),
+					@Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)
+				}
+			),
+			@ApiResponse(
+				responseCode = "400",
+				description = "Unknown format"
+			)
+		}
+	)
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportEmployees(@RequestParam(defaultValue = "csv") String format,
+			@RequestParam(defaultValue = "false") boolean gzip) {
+		EmployeeExporter.Format exportFormat = exportFormat(format);
+		StreamingResponseBody body = outputStream -> {
+			if (!gzip) {
+				employeeExporter.export(exportFormat, outputStream);
+				return;
+			}
+			GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, EXPORT_GZIP_BUFFER_SIZE);
+			employeeExporter.export(exportFormat, gzipStream);
+			gzipStream.finish();
+		};
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+				.contentType(exportFormat == EmployeeExporter.Format.NDJSON ? MediaType.APPLICATION_NDJSON
+						: MediaType.parseMediaType(EXPORT_CSV_VALUE))
+				.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+						.filename(exportFormat == EmployeeExporter.Format.NDJSON ? "employees.ndjson" : "employees.csv")
+						.build().toString());
+		if (gzip) {
+			response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		return response.body(body);
+	}
+
+	/**
+	 * Retrieves the employee changes committed after the given offset, as
+	 * newline-delimited JSON in offset order: one line per creation, update or
+	 * deletion, with the employee as written (none for deletions). Consumers
+	 * resume from the offset in the {@value #NEXT_CURSOR_HEADER} header, which
+	 * is that of the last change returned, or {@code since} if none was.
+	 *
+	 * @param since the offset of the last change already seen, 0 for the oldest
+	 *              change kept
+	 * @param limit the maximum number of changes to return
+	 * @return the ResponseEntity containing the changes
+	 */
+	@Operation(
+		summary = "Retrieves employee changes",
+		description = "This API endpoint returns the employee creations, updates and deletions committed after an offset, as NDJSON.",
+		method = "GET",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Successful operation",
+				content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)
+			),
+			@ApiResponse(
+				responseCode = "410",
+				description = "The changes after the offset are no longer kept"
+			)
+		}
+	)
+	@GetMapping(value = "/changes", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> getChanges(@RequestParam(defaultValue = "0") long since,
+			@RequestParam(required = false) Integer limit) {
+		List<EmployeeChange> changes = changeLog.findSince(since, pageSize(limit));
+		long last = changes.isEmpty() ? since : changes.get(changes.size() - 1).getPosition();
+		StreamingResponseBody body = outputStream -> {
+			for (EmployeeChange change : changes) {
+				outputStream.write(objectMapper.writeValueAsBytes(change));
+				outputStream.write('\n');
+			}
+		};
+		return ResponseEntity.ok().header(NEXT_CURSOR_HEADER, Long.toString(last))
+				.contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
+
+	/**
+	 * Streams the employee changes committed after the given offset as
+	 * server-sent events, then every new change as it is committed. Each event
+	 * carries one change as JSON, with its offset as the event ID, so a client
+	 * that reconnects with {@code Last-Event-ID} resumes where it stopped.
+	 *
+	 * @param since       the offset of the last change already seen
+	 * @param lastEventId the offset to resume from on reconnection, taking
+	 *                    precedence over {@code since}
+	 * @return the emitter streaming the changes
+	 */
+	@Operation(
+		summary = "Streams employee changes",
+		description = "This API endpoint streams the employee creations, updates and deletions committed after an offset as server-sent events, then follows new changes.",
+		method = "GET",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Successful operation",
+				content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+			),
+			@ApiResponse(
+				responseCode = "410",
+				description = "The changes after the offset are no longer kept"
+			)
+		}
+	)
+	@GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamChanges(@RequestParam(defaultValue = "0") long since,
+			@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+		long from = lastEventId != null ? lastEventId : since;
+		// Fails with 410 before the stream starts if the offset has expired
+		changeLog.findSince(from, 1);
+		SseEmitter emitter = new SseEmitter(changeStreamTimeout.toMillis());
+		Runnable cancel = changeRelay.subscribe(from, changes -> {
+			for (EmployeeChange change : changes) {
+				emitter.send(SseEmitter.event().id(Long.toString(change.getPosition())).data(change,
+						MediaType.APPLICATION_JSON));
+			}
+		}, emitter::completeWithError);
+		emitter.onCompletion(cancel);
+		emitter.onTimeout(cancel);
+		emitter.onError(e -> cancel.run());
+		return emitter;
 	}
 
 	/**
-	 * Retrieves an employee by their ID.
+	 * Retrieves an employee by their ID. Supports conditional GET in the same way
+	 * as {@link #getEmployees(Integer, String, String, String, WebRequest)}.
 	 *
-	 * @param id the ID of the employee to retrieve
+	 * @param id      the ID of the employee to retrieve
+	 * @param request the current request, for conditional GET handling
 	 * @return the ResponseEntity containing the employee with the specified ID
 	 */
 	@Operation(
@@ -82,6 +401,10 @@ public class EmployeeController {
 				description = "Successful operation",
 				content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
 			),
+			@ApiResponse(
+				responseCode = "304",
+				description = "Not modified since the ETag in If-None-Match"
+			),
 			@ApiResponse(
 				responseCode = "404",
 				description = "Employee not found"
@@ -89,11 +412,14 @@ public class EmployeeController {
 		}
 	)
 	@GetMapping("/{id}")
-	public ResponseEntity<Employee> getEmployee(@PathVariable long id) {
-		logger.info("Entering getEmployee() method with id: {}", id);
-		Employee employee = employeeService.findById(id);
-		logger.info("Exiting getEmployee() method");
-		return ResponseEntity.status(HttpStatus.OK).body(employee);
+	public ResponseEntity<Employee> getEmployee(@PathVariable long id, WebRequest request) {
+		EmployeeChangeCounter.Tag tag = changeCounter.current();
+		if (request.checkNotModified(tag.etag())) {
+			return null;
+		}
+		Employee employee = employeeService.findById(id, tag.position());
+		return ResponseEntity.status(HttpStatus.OK).eTag(tag.etag()).cacheControl(CacheControl.noCache())
+				.body(employee);
 	}
 
 	/**
@@ -120,16 +446,15 @@ public class EmployeeController {
 	)
 	@PostMapping
 	public ResponseEntity<Employee> addEmployee(@Valid @RequestBody Employee employee) {
-		logger.info("Entering addEmployee() method");
 		Employee addedEmployee = employeeService.addEmployee(employee);
 		URI location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}")
 				.buildAndExpand(addedEmployee.getId()).toUri();
-		logger.info("Exiting addEmployee() method");
 		return ResponseEntity.created(location).body(addedEmployee);
 	}
 
 	/**
-	 * Edits an existing employee.
+	 * Edits an existing employee. When the body carries a {@code version}, the
+	 * edit is rejected with 409 if the employee has changed since.
 	 *
 	 * @param id       the ID of the employee to edit
 	 * @param employee the updated employee information
@@ -152,14 +477,55 @@ public class EmployeeController {
 			@ApiResponse(
 				responseCode = "404",
 				description = "Employee not found"
+			),
+			@ApiResponse(
+				responseCode = "409",
+				description = "Employee was modified since the given version"
 			)
 		}
 	)
 	@PutMapping("/{id}")
 	public ResponseEntity<Employee> editEmployee(@PathVariable long id, @Valid @RequestBody Employee employee) {
-		logger.info("Entering editEmployee() method with id: {}", id);
 		Employee updatedEmployee = employeeService.updateEmployee(employee, id);
-		logger.info("Exiting editEmployee() method");
+		return ResponseEntity.ok(updatedEmployee);
+	}
+
+	/**
+	 * Edits only the given fields of an existing employee. When the body carries
+	 * a {@code version}, the edit is rejected with 409 if the employee has
+	 * changed since.
+	 *
+	 * @param id    the ID of the employee to edit
+	 * @param patch the fields to change
+	 * @return the ResponseEntity containing the updated employee
+	 */
+	@Operation(
+		summary = "Partially edits an existing employee",
+		description = "This API endpoint updates only the supplied fields of an existing employee.",
+		method = "PATCH",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Employee updated successfully",
+				content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+			),
+			@ApiResponse(
+				responseCode = "400",
+				description = "Bad request"
+			),
+			@ApiResponse(
+				responseCode = "404",
+				description = "Employee not found"
+			),
+			@ApiResponse(
+				responseCode = "409",
+				description = "Employee was modified since the given version"
+			)
+		}
+	)
+	@PatchMapping("/{id}")
+	public ResponseEntity<Employee> patchEmployee(@PathVariable long id, @Valid @RequestBody EmployeePatch patch) {
+		Employee updatedEmployee = employeeService.patchEmployee(patch, id);
 		return ResponseEntity.ok(updatedEmployee);
 	}
 
@@ -186,12 +552,130 @@ public class EmployeeController {
 	)
 	@DeleteMapping("/{id}")
 	public ResponseEntity<Void> deleteEmployee(@PathVariable long id) {
-		logger.info("Entering deleteEmployee() method with id: {}", id);
 		employeeService.deleteById(id);
-		logger.info("Exiting deleteEmployee() method");
 		return ResponseEntity.status(HttpStatus.OK).build();
 	}
 
+	/**
+	 * Adds many employees in one request.
+	 *
+	 * @param employees the employees to add
+	 * @return the ResponseEntity containing one result per employee
+	 */
+	@Operation(
+		summary = "Adds employees in bulk",
+		description = "This API endpoint validates and adds many employees, reporting the outcome of each one.",
+		method = "POST",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Batch processed, see the per-item results",
+				content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+			)
+		}
+	)
+	@PostMapping("/batch")
+	public ResponseEntity<List<BatchItemResult>> addEmployees(@RequestBody List<Employee> employees) {
+		List<BatchItemResult> results = employeeService.addEmployees(employees);
+		return ResponseEntity.ok(results);
+	}
+
+	/**
+	 * Imports employees from a CSV (with a header row) or NDJSON upload, which
+	 * may be gzip-compressed ({@code Content-Encoding: gzip}). The upload is
+	 * parsed as it arrives, validated in parallel chunks and written in one
+	 * transaction per chunk, so uploads of any size are imported in bounded
+	 * memory.
+	 *
+	 * @param body            the upload
+	 * @param contentType     {@code text/csv} or {@code application/x-ndjson}
+	 * @param contentEncoding {@code gzip} for a compressed upload
+	 * @return the ResponseEntity containing the counts, the throughput in rows
+	 *         per second and the rejected rows
+	 * @throws IOException if the upload cannot be read
+	 */
+	@Operation(
+		summary = "Imports employees from CSV or NDJSON",
+		description = "This API endpoint streams a CSV or NDJSON upload into the employee table and reports the rejected rows and the rows per second.",
+		method = "POST",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Upload processed, see the report",
+				content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+			)
+		}
+	)
+	@PostMapping(value = "/import", consumes = { CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+	public ResponseEntity<ImportReport> importEmployees(InputStream body,
+			@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+			@RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding)
+			throws IOException {
+		EmployeeImporter.Format format = MediaType.APPLICATION_NDJSON.isCompatibleWith(
+				MediaType.parseMediaType(contentType)) ? EmployeeImporter.Format.NDJSON : EmployeeImporter.Format.CSV;
+		InputStream upload = "gzip".equalsIgnoreCase(contentEncoding) ? new GZIPInputStream(body) : body;
+		ImportReport report = employeeImporter.importEmployees(format, upload);
+		return ResponseEntity.ok(report);
+	}
+
+	/**
+	 * Edits many existing employees in one request.
+	 *
+	 * @param employees the updated employees, identified by their ID
+	 * @return the ResponseEntity containing one result per employee
+	 */
+	@Operation(
+		summary = "Edits employees in bulk",
+		description = "This API endpoint validates and updates many employees, reporting the outcome of each one.",
+		method = "PUT",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Batch processed, see the per-item results",
+				content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+			)
+		}
+	)
+	@PutMapping("/batch")
+	public ResponseEntity<List<BatchItemResult>> editEmployees(@RequestBody List<Employee> employees) {
+		List<BatchItemResult> results = employeeService.updateEmployees(employees);
+		return ResponseEntity.ok(results);
+	}
+
+	/**
+	 * Deletes many employees in one request.
+	 *
+	 * @param ids the IDs of the employees to delete
+	 * @return the ResponseEntity containing one result per ID
+	 * @throws InvalidBatchRequestException if an ID is null or not positive
+	 */
+	@Operation(
+		summary = "Deletes employees in bulk",
+		description = "This API endpoint deletes many employees by ID, reporting the outcome of each one.",
+		method = "DELETE",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Batch processed, see the per-item results",
+				content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+			),
+			@ApiResponse(
+				responseCode = "400",
+				description = "An ID is null or not positive"
+			)
+		}
+	)
+	@DeleteMapping("/batch")
+	public ResponseEntity<List<BatchItemResult>> deleteEmployees(@RequestBody List<Long> ids) {
+		for (int i = 0; i < ids.size(); i++) {
+			if (ids.get(i) == null || ids.get(i) <= 0) {
+				throw new InvalidBatchRequestException("Invalid ID at index " + i + ": " + ids.get(i));
+			}
+		}
+		List<BatchItemResult> results = employeeService.deleteByIds(ids);
+		return ResponseEntity.ok(results);
+	}
+
 	/**
 	 * Handles MethodArgumentNotValidException.
 	 *
@@ -206,26 +690,119 @@ public class EmployeeController {
 		errors.forEach(error -> sb.append(error.getDefaultMessage()).append(","));
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(sb.toString());
 	}
-	
-	
-	
+
+	/**
+	 * Searches employees by full name. The term is matched as a case-insensitive
+	 * substring of "first last".
+	 *
+	 * @param searchTerm the text to look for
+	 * @param limit      the maximum number of employees to return
+	 * @return the ResponseEntity containing the matching employees
+	 */
+	@Operation(
+		summary = "Searches employees by full name",
+		description = "This API endpoint retrieves the employees whose full name contains the search term, ignoring case.",
+		method = "GET",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Successful operation",
+				content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+			)
+		}
+	)
+	@GetMapping("/search-employees")
+	public ResponseEntity<List<Employee>> searchEmployees(@RequestParam String searchTerm,
+			@RequestParam(required = false) Integer limit) {
+		List<Employee> employees = employeeService.searchByFullName(searchTerm, pageSize(limit));
+		return ResponseEntity.ok(employees);
+	}
+
+	/**
+	 * Retrieves salary statistics grouped by country, or by country and
+	 * province.
+	 *
+	 * @param groupBy {@code province} (default) or {@code country}
+	 * @return the ResponseEntity containing the statistics of each group
+	 */
+	@Operation(
+		summary = "Retrieves salary statistics",
+		description = "This API endpoint retrieves count, sum, mean, min, max, p50 and p95 of salaries per country or province.",
+		method = "GET",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Successful operation",
+				content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+			)
+		}
+	)
+	@GetMapping("/stats")
+	public ResponseEntity<List<SalaryStats>> getSalaryStats(
+			@RequestParam(defaultValue = "province") String groupBy) {
+		List<SalaryStats> stats = employeeService.getSalaryStats("country".equalsIgnoreCase(groupBy)
+				? SalaryStatistics.GroupBy.COUNTRY : SalaryStatistics.GroupBy.PROVINCE);
+		return ResponseEntity.ok(stats);
+	}
+
+	/**
+	 * Retrieves one keyset page of the employees of a country. The country is
+	 * matched ignoring case. With {@code view=summary} only the ID and names of
+	 * each employee are returned.
+	 *
+	 * @param country the country to filter by
+	 * @param limit   the maximum number of employees to return
+	 * @param after   the ID after which the page starts
+	 * @param view    {@code full} (default) or {@code summary}
+	 * @return the ResponseEntity containing the employees of the country
+	 */
+	@Operation(
+		summary = "Retrieves employees by country",
+		description = "This API endpoint retrieves one page of the employees of a country, optionally as a summary.",
+		method = "GET",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Successful operation",
+				content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+			)
+		}
+	)
 	@GetMapping("/country/{country}")
-	public ResponseEntity<String> returnEmployeesByCountry(@PathVariable String country){
-		List<Employee> employeesGetByCountry = employeeService.getByCountry(country);
-		return ResponseEntity.status(HttpStatus.OK).build();
+	public ResponseEntity<?> returnEmployeesByCountry(@PathVariable String country,
+			@RequestParam(required = false) Integer limit, @RequestParam(required = false) Long after,
+			@RequestParam(defaultValue = "full") String view) {
+		int pageSize = pageSize(limit);
+		long from = after == null ? 0 : after;
+		if ("summary".equalsIgnoreCase(view)) {
+			List<EmployeeSummary> summaries = employeeService.getByCountry(country, from, pageSize,
+					EmployeeSummary.class);
+			return page(summaries, pageSize, EmployeeSummary::getId);
+		}
+		List<Employee> employees = employeeService.getByCountry(country, from, pageSize, Employee.class);
+		return page(employees, pageSize, Employee::getId);
+	}
+
+	private static EmployeeExporter.Format exportFormat(String format) {
+		if ("csv".equalsIgnoreCase(format)) {
+			return EmployeeExporter.Format.CSV;
+		}
+		if ("ndjson".equalsIgnoreCase(format)) {
+			return EmployeeExporter.Format.NDJSON;
+		}
+		throw new InvalidExportRequestException("Unknown export format: " + format + ", expected csv or ndjson");
+	}
+
+	private static int pageSize(Integer limit) {
+		return limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
 	}
-	
-	
-	
-	
-	
-	
-	
-	
-	
-	
-	
-	
-	
-	
+
+	private static <T> ResponseEntity<List<T>> page(List<T> employees, int pageSize, ToLongFunction<T> idOf) {
+		ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+		if (employees.size() == pageSize) {
+			response.header(NEXT_CURSOR_HEADER, String.valueOf(idOf.applyAsLong(employees.get(employees.size() - 1))));
+		}
+		return response.body(employees);
+	}
+
 }
@@ -1,11 +1,17 @@
 package com.fdmgroup.EmployeeApiAndreea.controller;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.fdmgroup.EmployeeApiAndreea.exception.ChangesExpiredException;
+import com.fdmgroup.EmployeeApiAndreea.exception.InvalidBatchRequestException;
+import com.fdmgroup.EmployeeApiAndreea.exception.InvalidExportRequestException;
+import com.fdmgroup.EmployeeApiAndreea.exception.InvalidPageRequestException;
 import com.fdmgroup.EmployeeApiAndreea.exception.ResourceNotFoundException;
+import com.fdmgroup.EmployeeApiAndreea.exception.VersionConflictException;
 
 @RestControllerAdvice
 public class EmployeeControllerAdvice {
@@ -16,4 +22,26 @@ public class EmployeeControllerAdvice {
 		.body(ex.getMessage());
 	}
 
+	@ExceptionHandler(value = { InvalidPageRequestException.class, InvalidBatchRequestException.class,
+			InvalidExportRequestException.class })
+	public ResponseEntity<String> handleInvalidRequest(RuntimeException ex) {
+		return ResponseEntity
+		.status(HttpStatus.BAD_REQUEST)
+		.body(ex.getMessage());
+	}
+
+	@ExceptionHandler(value = ChangesExpiredException.class)
+	public ResponseEntity<String> handleChangesExpired(ChangesExpiredException ex) {
+		return ResponseEntity
+		.status(HttpStatus.GONE)
+		.body(ex.getMessage());
+	}
+
+	@ExceptionHandler(value = { VersionConflictException.class, OptimisticLockingFailureException.class })
+	public ResponseEntity<String> handleVersionConflict(RuntimeException ex) {
+		return ResponseEntity
+		.status(HttpStatus.CONFLICT)
+		.body(ex.getMessage());
+	}
+
 }
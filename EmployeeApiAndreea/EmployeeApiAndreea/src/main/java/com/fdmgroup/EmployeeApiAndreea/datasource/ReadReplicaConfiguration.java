@@ -0,0 +1,101 @@
+package com.fdmgroup.EmployeeApiAndreea.datasource;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read/write splitting, enabled with {@code employee.datasource.replicas.enabled}.
+ * The primary is configured as usual through {@code spring.datasource.*}; each
+ * read replica is listed under {@code employee.datasource.replicas.nodes[n]}
+ * with its {@code url} and, if they differ from the primary's, its
+ * {@code username} and {@code password}. Every data source gets its own Hikari
+ * pool, tuned by {@code spring.datasource.hikari.*} and reported as
+ * {@code hikaricp.*} tagged with its pool name ({@code primary},
+ * {@code replica-0}, ...); replica pools are sized by
+ * {@code employee.datasource.replicas.maximum-pool-size}.
+ * <p>
+ * Adding replicas adds read capacity: {@code @Transactional(readOnly = true)}
+ * service methods are spread over every replica within
+ * {@code employee.datasource.replicas.max-lag} of the primary, see
+ * {@link ReplicaRoutingDataSource}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "employee.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+	private static final String REPLICAS = "employee.datasource.replicas.";
+
+	@Bean
+	public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties primaryProperties,
+			Environment environment, MeterRegistry registry,
+			@Value("${" + REPLICAS + "max-lag:5s}") Duration maxLag,
+			@Value("${" + REPLICAS + "check-interval:1s}") Duration checkInterval,
+			@Value("${" + REPLICAS + "maximum-pool-size:10}") int maximumPoolSize) throws Exception {
+		Binder binder = Binder.get(environment);
+		List<DataSourceProperties> nodes = binder
+				.bind(REPLICAS + "nodes", Bindable.listOf(DataSourceProperties.class)).orElse(List.of());
+		if (nodes.isEmpty()) {
+			throw new IllegalStateException(
+					REPLICAS + "enabled is true but no " + REPLICAS + "nodes[n].url is configured");
+		}
+		Map<String, DataSource> replicas = new LinkedHashMap<>();
+		for (int i = 0; i < nodes.size(); i++) {
+			DataSourceProperties node = nodes.get(i);
+			if (node.getUsername() == null) {
+				node.setUsername(primaryProperties.determineUsername());
+				node.setPassword(primaryProperties.determinePassword());
+			}
+			node.afterPropertiesSet();
+			HikariDataSource replica = pool("replica-" + i, node, binder, registry);
+			replica.setMaximumPoolSize(maximumPoolSize);
+			if (replica.getMinimumIdle() > maximumPoolSize) {
+				replica.setMinimumIdle(maximumPoolSize);
+			}
+			replica.setReadOnly(true);
+			replicas.put(replica.getPoolName(), replica);
+		}
+		HikariDataSource primary = pool(ReplicaRoutingDataSource.PRIMARY, primaryProperties, binder, registry);
+		return new ReplicaRoutingDataSource(primary, replicas, maxLag, checkInterval, registry);
+	}
+
+	/**
+	 * The data source used by JPA, Flyway and JDBC. The lazy proxy defers
+	 * picking a connection until the first statement, when the read-only flag
+	 * of the transaction is known.
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+
+	private static HikariDataSource pool(String name, DataSourceProperties properties, Binder binder,
+			MeterRegistry registry) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+		dataSource.setPoolName(name);
+		dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+		return dataSource;
+	}
+
+}
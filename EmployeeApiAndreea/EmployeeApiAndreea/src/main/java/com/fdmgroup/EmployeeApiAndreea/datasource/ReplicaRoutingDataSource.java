@@ -0,0 +1,245 @@
+package com.fdmgroup.EmployeeApiAndreea.datasource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+/**
+ * Sends read-only transactions to the read replicas, round robin, and
+ * everything else to the primary. It must sit behind a
+ * {@code LazyConnectionDataSourceProxy}, so that the connection is only chosen
+ * once the transaction's read-only flag is set.
+ * <p>
+ * Replica lag is measured with a heartbeat: every {@code checkInterval} the
+ * current time is written to the {@value #HEARTBEAT_TABLE} table on the
+ * primary and read back from each replica. A replica whose heartbeat is older
+ * than {@code maxLag}, missing or unreadable gets no reads until it catches
+ * up; with no replica left, reads go to the primary.
+ * <p>
+ * Reads follow the writes of this instance: once a read-write transaction
+ * has completed, a replica only gets reads again when the heartbeat it has
+ * received was written after that, so it holds the write. Until the next
+ * check shows the replicas have caught up, reads go to the primary, so a read
+ * that starts after a write sees it, and so does whatever it caches.
+ * Within one web request every read goes to the same data source, so the
+ * ETag and the employees of a response come from the same database.
+ * <p>
+ * Reads are counted as {@code employee.datasource.reads} tagged with the
+ * chosen data source; each replica's lag and availability are exposed as
+ * {@code employee.datasource.replica.lag} and
+ * {@code employee.datasource.replica.available}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements SmartLifecycle, DisposableBean {
+
+	public static final String PRIMARY = "primary";
+	static final String HEARTBEAT_TABLE = "EMPLOYEE_REPLICA_HEARTBEAT";
+	private static final String REQUEST_DATA_SOURCE = ReplicaRoutingDataSource.class.getName() + ".dataSource";
+
+	private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+	private final DataSource primary;
+	private final Map<String, DataSource> replicas;
+	private final long maxLagMillis;
+	private final Duration checkInterval;
+	private final Map<String, AtomicLong> lags = new HashMap<>();
+	private final Map<String, AtomicLong> beats = new HashMap<>();
+	private final AtomicLong lastWrite = new AtomicLong();
+	private final Map<String, Counter> reads = new HashMap<>();
+	private final AtomicInteger next = new AtomicInteger();
+	private volatile List<String> available = List.of();
+	private ScheduledExecutorService scheduler;
+
+	public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag,
+			Duration checkInterval, MeterRegistry registry) {
+		super();
+		this.primary = primary;
+		this.replicas = Collections.unmodifiableMap(new LinkedHashMap<>(replicas));
+		this.maxLagMillis = maxLag.toMillis();
+		this.checkInterval = checkInterval;
+		Map<Object, Object> targets = new LinkedHashMap<>(replicas);
+		targets.put(PRIMARY, primary);
+		setTargetDataSources(targets);
+		setDefaultTargetDataSource(primary);
+		setLenientFallback(false);
+		reads.put(PRIMARY, registry.counter("employee.datasource.reads", "datasource", PRIMARY));
+		replicas.keySet().forEach(name -> {
+			AtomicLong lag = new AtomicLong(-1);
+			lags.put(name, lag);
+			beats.put(name, new AtomicLong());
+			reads.put(name, registry.counter("employee.datasource.reads", "datasource", name));
+			TimeGauge.builder("employee.datasource.replica.lag", lag,
+					TimeUnit.MILLISECONDS, value -> value.get() < 0 ? Double.NaN : value.get())
+					.tag("datasource", name).register(registry);
+			Gauge.builder("employee.datasource.replica.available", this, routing -> routing.isAvailable(name) ? 1 : 0)
+					.tag("datasource", name).register(registry);
+		});
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (TransactionSynchronizationManager.isSynchronizationActive()) {
+				TransactionSynchronizationManager.registerSynchronization(new WriteCompletion());
+			}
+			return PRIMARY;
+		}
+		RequestAttributes request = RequestContextHolder.getRequestAttributes();
+		String key = request == null ? null
+				: (String) request.getAttribute(REQUEST_DATA_SOURCE, RequestAttributes.SCOPE_REQUEST);
+		if (key == null || !isReadable(key)) {
+			long writtenAt = lastWrite.get();
+			List<String> candidates = available.stream().filter(name -> beats.get(name).get() > writtenAt)
+					.toList();
+			key = candidates.isEmpty() ? PRIMARY
+					: candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+			if (request != null) {
+				request.setAttribute(REQUEST_DATA_SOURCE, key, RequestAttributes.SCOPE_REQUEST);
+			}
+		}
+		reads.get(key).increment();
+		return key;
+	}
+
+	/**
+	 * Writes a heartbeat to the primary and re-reads every replica's, making
+	 * the replicas within the allowed lag available for reads.
+	 */
+	public void checkReplicas() {
+		writeHeartbeat();
+		List<String> healthy = new ArrayList<>();
+		replicas.forEach((name, replica) -> {
+			long beat = beatOf(name, replica);
+			long lag = beat < 0 ? -1 : Math.max(0, System.currentTimeMillis() - beat);
+			beats.get(name).set(Math.max(beat, 0));
+			lags.get(name).set(lag);
+			if (lag >= 0 && lag <= maxLagMillis) {
+				healthy.add(name);
+			}
+		});
+		healthy.sort(null);
+		if (!healthy.equals(available)) {
+			logger.info("Read replicas available: {} of {}", healthy, replicas.keySet());
+		}
+		available = List.copyOf(healthy);
+	}
+
+	/**
+	 * @param name the name of a replica
+	 * @return whether the replica currently receives reads
+	 */
+	public boolean isAvailable(String name) {
+		return available.contains(name);
+	}
+
+	// Whether a read may still go to the data source chosen earlier in the
+	// request; the primary always has every write
+	private boolean isReadable(String key) {
+		return PRIMARY.equals(key) || (isAvailable(key) && beats.get(key).get() > lastWrite.get());
+	}
+
+	@Override
+	public void start() {
+		try (Connection connection = primary.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("create table if not exists " + HEARTBEAT_TABLE + " (id int primary key, beat bigint)");
+		} catch (SQLException e) {
+			throw new IllegalStateException("Could not create the replica heartbeat table", e);
+		}
+		checkReplicas();
+		scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("replica-lag-"));
+		scheduler.scheduleWithFixedDelay(this::checkReplicas, checkInterval.toMillis(), checkInterval.toMillis(),
+				TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void stop() {
+		scheduler.shutdownNow();
+		scheduler = null;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return scheduler != null;
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		for (DataSource dataSource : replicas.values()) {
+			close(dataSource);
+		}
+		close(primary);
+	}
+
+	private void writeHeartbeat() {
+		try (Connection connection = primary.getConnection();
+				PreparedStatement statement = connection
+						.prepareStatement("merge into " + HEARTBEAT_TABLE + " (id, beat) key (id) values (1, ?)")) {
+			statement.setLong(1, System.currentTimeMillis());
+			statement.executeUpdate();
+		} catch (SQLException e) {
+			logger.warn("Could not write the replica heartbeat: {}", e.getMessage());
+		}
+	}
+
+	// When the heartbeat seen by the replica was written, or -1 if the replica
+	// has none or cannot be reached
+	private long beatOf(String name, DataSource replica) {
+		try (Connection connection = replica.getConnection();
+				Statement statement = connection.createStatement();
+				ResultSet beat = statement.executeQuery("select beat from " + HEARTBEAT_TABLE + " where id = 1")) {
+			return beat.next() ? beat.getLong(1) : -1;
+		} catch (SQLException e) {
+			logger.warn("Could not read the heartbeat of replica {}: {}", name, e.getMessage());
+			return -1;
+		}
+	}
+
+	// Records when a read-write transaction ends, committed or not, as the
+	// time after which a replica's heartbeat must have been written to hold it
+	private final class WriteCompletion implements TransactionSynchronization {
+
+		@Override
+		public void afterCompletion(int status) {
+			lastWrite.accumulateAndGet(System.currentTimeMillis(), Math::max);
+		}
+
+	}
+
+	private static void close(DataSource dataSource) throws Exception {
+		if (dataSource instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.fdmgroup.EmployeeApiAndreea.event;
+
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+
+/**
+ * Published by the employee service for every employee it creates, updates or
+ * deletes. Listeners that keep derived in-memory state should use
+ * {@code @TransactionalEventListener(fallbackExecution = true)} so they only see
+ * committed changes.
+ */
+public class EmployeeChangedEvent {
+
+	public enum Type {
+		CREATED, UPDATED, DELETED
+	}
+
+	// Attributes
+	private final Type type;
+	private final long id;
+	private final Employee employee;
+
+	// Constructors
+	private EmployeeChangedEvent(Type type, long id, Employee employee) {
+		super();
+		this.type = type;
+		this.id = id;
+		this.employee = employee;
+	}
+
+	public static EmployeeChangedEvent created(Employee employee) {
+		return new EmployeeChangedEvent(Type.CREATED, employee.getId(), employee);
+	}
+
+	public static EmployeeChangedEvent updated(Employee employee) {
+		return new EmployeeChangedEvent(Type.UPDATED, employee.getId(), employee);
+	}
+
+	public static EmployeeChangedEvent deleted(long id) {
+		return new EmployeeChangedEvent(Type.DELETED, id, null);
+	}
+
+	// Getters
+	public Type getType() {
+		return type;
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	/**
+	 * @return the employee as written, or null for {@link Type#DELETED}
+	 */
+	public Employee getEmployee() {
+		return employee;
+	}
+
+	@Override
+	public String toString() {
+		return "EmployeeChangedEvent [type=" + type + ", id=" + id + "]";
+	}
+
+}
@@ -0,0 +1,11 @@
+package com.fdmgroup.EmployeeApiAndreea.exception;
+
+public class ChangesExpiredException extends RuntimeException {
+
+	private static final long serialVersionUID = -3419872264950193418L;
+
+	public ChangesExpiredException(String message) {
+		super(message);
+	}
+
+}
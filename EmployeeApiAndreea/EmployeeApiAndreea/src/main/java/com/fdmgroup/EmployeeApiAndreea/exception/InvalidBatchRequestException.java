@@ -0,0 +1,11 @@
+package com.fdmgroup.EmployeeApiAndreea.exception;
+
+public class InvalidBatchRequestException extends RuntimeException {
+
+	private static final long serialVersionUID = -3307825148730217641L;
+
+	public InvalidBatchRequestException(String message) {
+		super(message);
+	}
+
+}
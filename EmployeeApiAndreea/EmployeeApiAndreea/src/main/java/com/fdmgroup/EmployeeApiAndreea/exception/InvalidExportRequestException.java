@@ -0,0 +1,11 @@
+package com.fdmgroup.EmployeeApiAndreea.exception;
+
+public class InvalidExportRequestException extends RuntimeException {
+
+	private static final long serialVersionUID = 4125870393162237895L;
+
+	public InvalidExportRequestException(String message) {
+		super(message);
+	}
+
+}
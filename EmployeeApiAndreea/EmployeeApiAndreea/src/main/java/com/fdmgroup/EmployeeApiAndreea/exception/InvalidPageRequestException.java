@@ -0,0 +1,11 @@
+package com.fdmgroup.EmployeeApiAndreea.exception;
+
+public class InvalidPageRequestException extends RuntimeException {
+
+	private static final long serialVersionUID = 7261503348120937455L;
+
+	public InvalidPageRequestException(String message) {
+		super(message);
+	}
+
+}
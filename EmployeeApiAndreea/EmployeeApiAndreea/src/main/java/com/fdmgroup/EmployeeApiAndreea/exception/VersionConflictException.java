@@ -0,0 +1,11 @@
+package com.fdmgroup.EmployeeApiAndreea.exception;
+
+public class VersionConflictException extends RuntimeException {
+
+	private static final long serialVersionUID = 4183526930418213517L;
+
+	public VersionConflictException(String message) {
+		super(message);
+	}
+
+}
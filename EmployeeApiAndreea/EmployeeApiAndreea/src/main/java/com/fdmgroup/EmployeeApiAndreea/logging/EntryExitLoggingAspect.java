@@ -0,0 +1,59 @@
+package com.fdmgroup.EmployeeApiAndreea.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * TRACE-level "Entering"/"Exiting" logging for every public method of the
+ * API's controllers and services, written through the logger of the target
+ * class. Arguments are never logged, and only a sampled fraction of calls is
+ * traced ({@code employee.logging.entry-exit.sample-rate}, 1.0 = every call).
+ * <p>
+ * The aspect only exists when {@code employee.logging.entry-exit.enabled} is
+ * true, so it costs nothing otherwise; TRACE must also be enabled for the
+ * target packages for anything to be written.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "employee.logging.entry-exit.enabled", havingValue = "true")
+public class EntryExitLoggingAspect {
+
+	private final double sampleRate;
+
+	public EntryExitLoggingAspect(@Value("${employee.logging.entry-exit.sample-rate:1.0}") double sampleRate) {
+		super();
+		this.sampleRate = sampleRate;
+	}
+
+	@Around("within(com.fdmgroup.EmployeeApiAndreea..*) && (@within(org.springframework.stereotype.Controller)"
+			+ " || @within(org.springframework.stereotype.Service))")
+	public Object logEntryExit(ProceedingJoinPoint joinPoint) throws Throwable {
+		Logger logger = LoggerFactory.getLogger(joinPoint.getSignature().getDeclaringType());
+		if (!logger.isTraceEnabled() || !sampled()) {
+			return joinPoint.proceed();
+		}
+		String method = joinPoint.getSignature().getName();
+		logger.trace("Entering {}() method", method);
+		try {
+			Object result = joinPoint.proceed();
+			logger.trace("Exiting {}() method", method);
+			return result;
+		} catch (Throwable ex) {
+			logger.trace("Exiting {}() method with {}", method, ex.getClass().getSimpleName());
+			throw ex;
+		}
+	}
+
+	private boolean sampled() {
+		return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.fdmgroup.EmployeeApiAndreea.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Logback filter letting through a random fraction of events, set with
+ * {@code <sampleRate>} (0.0 to 1.0, default 1.0). Used to keep noisy loggers
+ * such as the slow query log readable under load.
+ */
+public class SamplingFilter extends Filter<ILoggingEvent> {
+
+	private double sampleRate = 1.0;
+
+	@Override
+	public FilterReply decide(ILoggingEvent event) {
+		if (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+			return FilterReply.NEUTRAL;
+		}
+		return FilterReply.DENY;
+	}
+
+	public void setSampleRate(double sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.fdmgroup.EmployeeApiAndreea.model;
+
+import java.util.List;
+
+/**
+ * Outcome of one item of a batch request, reported at the same position as the
+ * item in the request.
+ */
+public class BatchItemResult {
+
+	public enum Status {
+		CREATED, UPDATED, DELETED, INVALID, NOT_FOUND, CONFLICT
+	}
+
+	// Attributes
+	private int index;
+	private long id;
+	private Status status;
+	private List<String> errors;
+
+	// Constructors
+	public BatchItemResult(int index, long id, Status status, List<String> errors) {
+		super();
+		this.index = index;
+		this.id = id;
+		this.status = status;
+		this.errors = errors;
+	}
+
+	public static BatchItemResult of(int index, long id, Status status) {
+		return new BatchItemResult(index, id, status, List.of());
+	}
+
+	// Getters
+	public int getIndex() {
+		return index;
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public List<String> getErrors() {
+		return errors;
+	}
+
+	@Override
+	public String toString() {
+		return "BatchItemResult [index=" + index + ", id=" + id + ", status=" + status + ", errors=" + errors + "]";
+	}
+
+}
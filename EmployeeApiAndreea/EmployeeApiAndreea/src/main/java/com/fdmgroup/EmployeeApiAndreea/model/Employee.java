@@ -1,25 +1,36 @@
 package com.fdmgroup.EmployeeApiAndreea.model;
 
 import java.math.BigDecimal;
+import java.util.Locale;
 import java.util.Objects;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 @Entity
+@Table(indexes = { @Index(name = "IDX_EMPLOYEE_COUNTRY_KEY", columnList = "countryKey, id"),
+		@Index(name = "IDX_EMPLOYEE_LAST_NAME", columnList = "lastName, id"),
+		@Index(name = "IDX_EMPLOYEE_FIRST_NAME", columnList = "firstName, id") })
 public class Employee {
 
 	// Attributes
 	@Id
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employeegen")
-	@SequenceGenerator(name = "employeegen", sequenceName = "EMPLOYEE_ID_SEQ", allocationSize = 1)
+	@SequenceGenerator(name = "employeegen", sequenceName = "EMPLOYEE_ID_SEQ", allocationSize = 50)
 	private long id;
 
 	@NotBlank(message = "First name must not be null or blank.")
@@ -43,6 +54,14 @@ public class Employee {
 	@Size(min = 2, max = 250, message = "Country must be longer than 2 characters and less than 250.")
 	private String country;
 
+	// Upper-cased copy of country, indexed so lookups ignore case without a scan
+	@JsonIgnore
+	private String countryKey;
+
+	// Bumped on every update; writes carrying an older version are rejected
+	@Version
+	private Long version;
+
 	// Constructors
 	public Employee() {
 		super();
@@ -112,6 +131,34 @@ public class Employee {
 		this.country = country;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	public String getCountryKey() {
+		return countryKey;
+	}
+
+	/**
+	 * Normalizes a country name into the form stored in {@code countryKey}.
+	 *
+	 * @param country the country name
+	 * @return the trimmed, upper-cased name, or null for null
+	 */
+	public static String toCountryKey(String country) {
+		return country == null ? null : country.trim().toUpperCase(Locale.ROOT);
+	}
+
+	@PrePersist
+	@PreUpdate
+	void updateCountryKey() {
+		this.countryKey = toCountryKey(country);
+	}
+
 	// Override methods
 	@Override
 	public int hashCode() {
@@ -135,7 +182,7 @@ public class Employee {
 	@Override
 	public String toString() {
 		return "Employee [id=" + id + ", firstName=" + firstName + ", lastName=" + lastName + ", salary=" + salary
-				+ ", province=" + province + ", country=" + country + "]";
+				+ ", province=" + province + ", country=" + country + ", version=" + version + "]";
 	}
 
 }
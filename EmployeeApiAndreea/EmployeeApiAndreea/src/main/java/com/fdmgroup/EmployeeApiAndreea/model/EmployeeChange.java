@@ -0,0 +1,92 @@
+package com.fdmgroup.EmployeeApiAndreea.model;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fdmgroup.EmployeeApiAndreea.event.EmployeeChangedEvent;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+
+/**
+ * One committed employee change in the change log (the transactional outbox),
+ * written in the same transaction as the change itself. Its {@code offset} is
+ * the position in the change feed; offsets have no gaps and increase in commit
+ * order, so a consumer that has seen offset n only needs the changes after n.
+ */
+@Entity
+@JsonPropertyOrder({ "offset", "type", "employeeId", "version", "occurredAt", "employee" })
+public class EmployeeChange {
+
+	// Attributes
+	@Id
+	private long position;
+
+	@Enumerated(EnumType.STRING)
+	private EmployeeChangedEvent.Type type;
+
+	private long employeeId;
+
+	private Long version;
+
+	private Instant occurredAt;
+
+	// The employee as written, as JSON; null for deletions
+	@Column(length = 4000)
+	private String employee;
+
+	// Constructors
+	public EmployeeChange() {
+		super();
+	}
+
+	public EmployeeChange(long position, EmployeeChangedEvent.Type type, long employeeId, Long version,
+			Instant occurredAt, String employee) {
+		super();
+		this.position = position;
+		this.type = type;
+		this.employeeId = employeeId;
+		this.version = version;
+		this.occurredAt = occurredAt;
+		this.employee = employee;
+	}
+
+	// Getters and Setters
+	@JsonProperty("offset")
+	public long getPosition() {
+		return position;
+	}
+
+	public EmployeeChangedEvent.Type getType() {
+		return type;
+	}
+
+	public long getEmployeeId() {
+		return employeeId;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public Instant getOccurredAt() {
+		return occurredAt;
+	}
+
+	@JsonRawValue
+	public String getEmployee() {
+		return employee;
+	}
+
+	@Override
+	public String toString() {
+		return "EmployeeChange [position=" + position + ", type=" + type + ", employeeId=" + employeeId + ", version="
+				+ version + "]";
+	}
+
+}
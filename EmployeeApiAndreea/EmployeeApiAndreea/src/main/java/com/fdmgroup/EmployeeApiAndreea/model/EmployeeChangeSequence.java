@@ -0,0 +1,35 @@
+package com.fdmgroup.EmployeeApiAndreea.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * The single row holding the last offset given to an {@link EmployeeChange}.
+ * Transactions reserve their offsets by updating it just before they commit;
+ * the row lock they take is held until the commit, so offsets are handed out
+ * in commit order and a rolled-back transaction gives its offsets back.
+ */
+@Entity
+public class EmployeeChangeSequence {
+
+	// Attributes
+	@Id
+	private int id;
+
+	private long lastPosition;
+
+	// Constructors
+	public EmployeeChangeSequence() {
+		super();
+	}
+
+	// Getters
+	public int getId() {
+		return id;
+	}
+
+	public long getLastPosition() {
+		return lastPosition;
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.fdmgroup.EmployeeApiAndreea.model;
+
+import java.util.List;
+
+/**
+ * What changed in the employees since a sync token: the current state of every
+ * employee created or updated since then, and the IDs of those deleted. The
+ * {@code token} is the offset of the last change included, to be passed as
+ * {@code modifiedSince} on the next call. When {@code full} is true the
+ * employees are all of them and replace whatever the client holds, as happens
+ * for the first call and when the client is too far behind.
+ */
+public class EmployeeDelta {
+
+	// Attributes
+	private long token;
+	private boolean full;
+	private List<Employee> employees;
+	private List<Long> deleted;
+
+	// Constructors
+	public EmployeeDelta(long token, boolean full, List<Employee> employees, List<Long> deleted) {
+		super();
+		this.token = token;
+		this.full = full;
+		this.employees = employees;
+		this.deleted = deleted;
+	}
+
+	// Getters
+	public long getToken() {
+		return token;
+	}
+
+	public boolean isFull() {
+		return full;
+	}
+
+	public List<Employee> getEmployees() {
+		return employees;
+	}
+
+	public List<Long> getDeleted() {
+		return deleted;
+	}
+
+}
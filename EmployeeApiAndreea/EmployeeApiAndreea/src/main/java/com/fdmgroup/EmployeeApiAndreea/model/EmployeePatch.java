@@ -0,0 +1,103 @@
+package com.fdmgroup.EmployeeApiAndreea.model;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Partial update of an employee. Fields left null keep their current value;
+ * the supplied ones are validated with the same rules as {@link Employee}. When
+ * {@code version} is given the update only applies if the employee is still at
+ * that version.
+ */
+public class EmployeePatch {
+
+	private static final String NOT_BLANK = "(?s).*\\S.*";
+
+	// Attributes
+	@Pattern(regexp = NOT_BLANK, message = "First name must not be blank.")
+	@Size(min = 3, max = 250, message = "First name must be longer than 2 characters and less than 250.")
+	private String firstName;
+
+	@Pattern(regexp = NOT_BLANK, message = "Last name must not be blank.")
+	@Size(min = 2, max = 250, message = "Last name must be longer than 2 characters and less than 250.")
+	private String lastName;
+
+	@DecimalMax(value = "500000", message = "Salary must be less than 500,000")
+	@DecimalMin(value = "20.500", message = "Salary must be more than 20,500.")
+	private BigDecimal salary;
+
+	@Pattern(regexp = NOT_BLANK, message = "Province must not be blank.")
+	@Size(min = 2, max = 250, message = "Province must be longer than 2 characters and less than 250.")
+	private String province;
+
+	@Pattern(regexp = NOT_BLANK, message = "Country must not be blank.")
+	@Size(min = 2, max = 250, message = "Country must be longer than 2 characters and less than 250.")
+	private String country;
+
+	private Long version;
+
+	// Constructors
+	public EmployeePatch() {
+		super();
+	}
+
+	// Getters and Setters
+	public String getFirstName() {
+		return firstName;
+	}
+
+	public void setFirstName(String firstName) {
+		this.firstName = firstName;
+	}
+
+	public String getLastName() {
+		return lastName;
+	}
+
+	public void setLastName(String lastName) {
+		this.lastName = lastName;
+	}
+
+	public BigDecimal getSalary() {
+		return salary;
+	}
+
+	public void setSalary(BigDecimal salary) {
+		this.salary = salary;
+	}
+
+	public String getProvince() {
+		return province;
+	}
+
+	public void setProvince(String province) {
+		this.province = province;
+	}
+
+	public String getCountry() {
+		return country;
+	}
+
+	public void setCountry(String country) {
+		this.country = country;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	@Override
+	public String toString() {
+		return "EmployeePatch [firstName=" + firstName + ", lastName=" + lastName + ", salary=" + salary
+				+ ", province=" + province + ", country=" + country + ", version=" + version + "]";
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.fdmgroup.EmployeeApiAndreea.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.fdmgroup.EmployeeApiAndreea.exception.InvalidPageRequestException;
+
+/**
+ * Orders in which employees can be paged. Each order is a keyset ending in the
+ * ID, so it is total, and a page cursor is the key of the employee at the edge
+ * of a page: the plain ID for {@link #ID}, and an opaque URL-safe token for
+ * {@link #LAST_NAME}.
+ */
+public enum EmployeeSort {
+
+	ID("id"), LAST_NAME("lastName");
+
+	private final String parameter;
+
+	EmployeeSort(String parameter) {
+		this.parameter = parameter;
+	}
+
+	/**
+	 * @param parameter the {@code sort} request parameter, {@code id} when null
+	 * @return the matching order
+	 * @throws InvalidPageRequestException if no order has that name
+	 */
+	public static EmployeeSort of(String parameter) {
+		if (parameter == null) {
+			return ID;
+		}
+		for (EmployeeSort sort : values()) {
+			if (sort.parameter.equalsIgnoreCase(parameter)) {
+				return sort;
+			}
+		}
+		throw new InvalidPageRequestException("Unknown sort: " + parameter + ", expected id or lastName");
+	}
+
+	/**
+	 * @param employee the employee at the edge of a page
+	 * @return the cursor pointing at that employee
+	 */
+	public String cursorOf(Employee employee) {
+		if (this == ID) {
+			return String.valueOf(employee.getId());
+		}
+		String key = employee.getId() + ":" + employee.getLastName();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @param cursor a cursor produced by {@link #cursorOf(Employee)}
+	 * @return the key the cursor points at
+	 * @throws InvalidPageRequestException if the cursor is malformed
+	 */
+	public Key parse(String cursor) {
+		try {
+			if (this == ID) {
+				return new Key(null, Long.parseLong(cursor));
+			}
+			String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int colon = key.indexOf(':');
+			return new Key(key.substring(colon + 1), Long.parseLong(key.substring(0, colon)));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+			throw new InvalidPageRequestException("Invalid cursor for sort " + parameter + ": " + cursor);
+		}
+	}
+
+	/**
+	 * The sort key of one employee; {@code lastName} is null for {@link #ID}.
+	 */
+	public record Key(String lastName, long id) {
+	}
+
+}
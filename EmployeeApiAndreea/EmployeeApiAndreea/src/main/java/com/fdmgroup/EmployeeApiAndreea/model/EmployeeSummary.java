@@ -0,0 +1,15 @@
+package com.fdmgroup.EmployeeApiAndreea.model;
+
+/**
+ * Lightweight view of an employee with only the identifying columns. Used as a
+ * Spring Data projection so that only these columns are selected.
+ */
+public interface EmployeeSummary {
+
+	long getId();
+
+	String getFirstName();
+
+	String getLastName();
+
+}
@@ -0,0 +1,71 @@
+package com.fdmgroup.EmployeeApiAndreea.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: how many rows were read, created and rejected, how
+ * fast they went, and one {@link BatchItemResult} per rejected row, whose
+ * index is the 1-based row number in the upload (the CSV header not counted).
+ * At most a fixed number of rejected rows is listed; {@code errorsTruncated}
+ * tells whether more were left out.
+ */
+public class ImportReport {
+
+	// Attributes
+	private long rows;
+	private long created;
+	private long invalid;
+	private long elapsedMillis;
+	private double rowsPerSecond;
+	private List<BatchItemResult> errors;
+	private boolean errorsTruncated;
+
+	// Constructors
+	public ImportReport(long rows, long created, long invalid, long elapsedMillis, List<BatchItemResult> errors,
+			boolean errorsTruncated) {
+		super();
+		this.rows = rows;
+		this.created = created;
+		this.invalid = invalid;
+		this.elapsedMillis = elapsedMillis;
+		this.rowsPerSecond = elapsedMillis == 0 ? rows * 1000.0 : rows * 1000.0 / elapsedMillis;
+		this.errors = errors;
+		this.errorsTruncated = errorsTruncated;
+	}
+
+	// Getters
+	public long getRows() {
+		return rows;
+	}
+
+	public long getCreated() {
+		return created;
+	}
+
+	public long getInvalid() {
+		return invalid;
+	}
+
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+	public double getRowsPerSecond() {
+		return rowsPerSecond;
+	}
+
+	public List<BatchItemResult> getErrors() {
+		return errors;
+	}
+
+	public boolean isErrorsTruncated() {
+		return errorsTruncated;
+	}
+
+	@Override
+	public String toString() {
+		return "ImportReport [rows=" + rows + ", created=" + created + ", invalid=" + invalid + ", elapsedMillis="
+				+ elapsedMillis + ", rowsPerSecond=" + rowsPerSecond + ", errorsTruncated=" + errorsTruncated + "]";
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.fdmgroup.EmployeeApiAndreea.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Salary statistics of one group of employees. {@code province} is null when
+ * the group is a whole country.
+ */
+public class SalaryStats {
+
+	// Attributes
+	private String country;
+	private String province;
+	private long count;
+	private BigDecimal sum;
+	private BigDecimal mean;
+	private BigDecimal min;
+	private BigDecimal max;
+	private BigDecimal p50;
+	private BigDecimal p95;
+
+	// Constructors
+	public SalaryStats(String country, String province, long count, BigDecimal sum, BigDecimal mean, BigDecimal min,
+			BigDecimal max, BigDecimal p50, BigDecimal p95) {
+		super();
+		this.country = country;
+		this.province = province;
+		this.count = count;
+		this.sum = sum;
+		this.mean = mean;
+		this.min = min;
+		this.max = max;
+		this.p50 = p50;
+		this.p95 = p95;
+	}
+
+	// Getters
+	public String getCountry() {
+		return country;
+	}
+
+	public String getProvince() {
+		return province;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public BigDecimal getSum() {
+		return sum;
+	}
+
+	public BigDecimal getMean() {
+		return mean;
+	}
+
+	public BigDecimal getMin() {
+		return min;
+	}
+
+	public BigDecimal getMax() {
+		return max;
+	}
+
+	public BigDecimal getP50() {
+		return p50;
+	}
+
+	public BigDecimal getP95() {
+		return p95;
+	}
+
+	@Override
+	public String toString() {
+		return "SalaryStats [country=" + country + ", province=" + province + ", count=" + count + ", sum=" + sum
+				+ ", mean=" + mean + ", min=" + min + ", max=" + max + ", p50=" + p50 + ", p95=" + p95 + "]";
+	}
+
+}
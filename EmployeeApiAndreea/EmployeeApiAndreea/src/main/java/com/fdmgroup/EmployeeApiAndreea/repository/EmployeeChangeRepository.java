@@ -0,0 +1,67 @@
+package com.fdmgroup.EmployeeApiAndreea.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeeChange;
+
+public interface EmployeeChangeRepository extends JpaRepository<EmployeeChange, Long> {
+
+	@Modifying
+	@Query("update EmployeeChangeSequence s set s.lastPosition = s.lastPosition + :count where s.id = 1")
+	int advancePositions(@Param("count") int count);
+
+	/**
+	 * Reserves the next {@code count} offsets and returns the last of them.
+	 * The update leaves the sequence row locked until the transaction ends, so
+	 * the offset read back is the one it wrote, and transactions get their
+	 * offsets in the order they commit.
+	 */
+	default long reservePositions(int count) {
+		advancePositions(count);
+		return findLastPosition();
+	}
+
+	@Query("select s.lastPosition from EmployeeChangeSequence s where s.id = 1")
+	long findLastPosition();
+
+	/**
+	 * The offset of the last change and when it occurred, read by primary key
+	 * from the sequence row and the change it points to. The time is null
+	 * before the first change.
+	 */
+	@Query("select s.lastPosition as lastPosition, c.occurredAt as occurredAt from EmployeeChangeSequence s"
+			+ " left join EmployeeChange c on c.position = s.lastPosition where s.id = 1")
+	LastChange findLastChange();
+
+	interface LastChange {
+
+		long getLastPosition();
+
+		Instant getOccurredAt();
+
+	}
+
+	/**
+	 * Page of the change feed: the changes after the given position, in
+	 * position order.
+	 */
+	List<EmployeeChange> findByPositionGreaterThanOrderByPositionAsc(long position, Pageable pageable);
+
+	/**
+	 * Deletes the changes that occurred before the given instant, except the
+	 * last one, which tells consumers further behind that they missed changes.
+	 * Returns the number of deleted changes.
+	 */
+	@Modifying
+	@Query("delete from EmployeeChange c where c.occurredAt < :before"
+			+ " and c.position < (select max(l.position) from EmployeeChange l)")
+	int deleteOccurredBefore(@Param("before") Instant before);
+
+}
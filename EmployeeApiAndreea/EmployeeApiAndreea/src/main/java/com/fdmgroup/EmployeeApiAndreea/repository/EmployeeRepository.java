@@ -1,13 +1,124 @@
 package com.fdmgroup.EmployeeApiAndreea.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeePatch;
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeeSummary;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
 
-	List<Employee> findByCountry(String country);
+	/**
+	 * Keyset page of the employees of one country, in id order, read through the
+	 * (countryKey, id) index. The type selects the full entity or a projection
+	 * such as {@link EmployeeSummary}.
+	 */
+	<T> List<T> findByCountryKeyAndIdGreaterThanOrderByIdAsc(String countryKey, long id, Pageable pageable,
+			Class<T> type);
+
+	/**
+	 * Keyset page: the employees whose id is strictly greater than the given
+	 * cursor, in id order. The page size comes from the pageable; no count query
+	 * is issued because the return type is a plain list.
+	 */
+	List<Employee> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+	/**
+	 * Keyset page read backwards: the employees whose id is strictly less than
+	 * the given cursor, nearest first.
+	 */
+	List<Employee> findByIdLessThanOrderByIdDesc(long id, Pageable pageable);
+
+	/**
+	 * First keyset page in (lastName, id) order, read through the (lastName, id)
+	 * index.
+	 */
+	List<Employee> findAllByOrderByLastNameAscIdAsc(Pageable pageable);
+
+	/**
+	 * Keyset page: the employees after the given (lastName, id) key, in
+	 * (lastName, id) order.
+	 */
+	@Query("select e from Employee e where e.lastName > :lastName or (e.lastName = :lastName and e.id > :id)"
+			+ " order by e.lastName asc, e.id asc")
+	List<Employee> findByLastNameAfter(@Param("lastName") String lastName, @Param("id") long id, Pageable pageable);
+
+	/**
+	 * Keyset page read backwards: the employees before the given (lastName, id)
+	 * key, nearest first.
+	 */
+	@Query("select e from Employee e where e.lastName < :lastName or (e.lastName = :lastName and e.id < :id)"
+			+ " order by e.lastName desc, e.id desc")
+	List<Employee> findByLastNameBefore(@Param("lastName") String lastName, @Param("id") long id, Pageable pageable);
+
+	/**
+	 * Employees whose "first last" name contains the pattern, ignoring case, in
+	 * id order. The pattern is a LIKE pattern escaped with {@code !}. This
+	 * scans the table; it backs searches when the in-memory search index is
+	 * disabled.
+	 */
+	@Query("select e from Employee e where lower(concat(e.firstName, ' ', e.lastName)) like :pattern escape '!'"
+			+ " order by e.id")
+	List<Employee> searchByFullName(@Param("pattern") String pattern, Pageable pageable);
+
+	@Query("select e.id from Employee e where e.id in :ids")
+	List<Long> findExistingIds(Collection<Long> ids);
+
+	/**
+	 * Deletes one employee in a single statement, without loading it first.
+	 * Returns the number of deleted rows (0 or 1).
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("delete from Employee e where e.id = :id")
+	int deleteEmployee(@Param("id") long id);
+
+	/**
+	 * Overwrites every field of one employee and bumps its version in a single
+	 * statement. When {@code version} is not null the row is only updated if it
+	 * is still at that version. Returns the number of updated rows (0 or 1).
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Employee e set e.firstName = :#{#employee.firstName}, e.lastName = :#{#employee.lastName},"
+			+ " e.salary = :#{#employee.salary}, e.province = :#{#employee.province},"
+			+ " e.country = :#{#employee.country}, e.countryKey = :countryKey, e.version = e.version + 1"
+			+ " where e.id = :id and e.version = coalesce(:version, e.version)")
+	int overwrite(@Param("id") long id, @Param("employee") Employee employee, @Param("countryKey") String countryKey,
+			@Param("version") Long version);
+
+	@Query("select e.version from Employee e where e.id = :id")
+	Long findVersionById(@Param("id") long id);
+
+	/**
+	 * Overwrites one employee with {@link #overwrite(long, Employee, String, Long)}
+	 * and returns the new version, or null if no row was updated. The version is
+	 * read by primary key after the update, which keeps the row locked until the
+	 * transaction ends, so it is the version this update wrote.
+	 */
+	default Long replace(long id, Employee employee, String countryKey, Long version) {
+		return overwrite(id, employee, countryKey, version) == 0 ? null : findVersionById(id);
+	}
+
+	/**
+	 * Updates only the non-null fields of the patch and bumps the version in a
+	 * single statement, under the same version condition as
+	 * {@link #replace(long, Employee, String, Long)}. Returns the number of
+	 * updated rows (0 or 1).
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Employee e set e.firstName = coalesce(:#{#patch.firstName}, e.firstName),"
+			+ " e.lastName = coalesce(:#{#patch.lastName}, e.lastName),"
+			+ " e.salary = coalesce(:#{#patch.salary}, e.salary),"
+			+ " e.province = coalesce(:#{#patch.province}, e.province),"
+			+ " e.country = coalesce(:#{#patch.country}, e.country),"
+			+ " e.countryKey = coalesce(:countryKey, e.countryKey), e.version = e.version + 1"
+			+ " where e.id = :id and e.version = coalesce(:#{#patch.version}, e.version)")
+	int patch(@Param("id") long id, @Param("patch") EmployeePatch patch, @Param("countryKey") String countryKey);
 
 }
@@ -0,0 +1,24 @@
+package com.fdmgroup.EmployeeApiAndreea.repository;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.fdmgroup.EmployeeApiAndreea.model.SalaryStats;
+
+public interface EmployeeRepositoryCustom {
+
+	/**
+	 * Visits every employee in id order through a forward-only cursor, detaching
+	 * each one once visited so memory stays constant regardless of table size.
+	 */
+	void forEachEmployee(Consumer<Employee> action);
+
+	/**
+	 * Salary statistics per country key, or per country key and province,
+	 * aggregated by the database in one GROUP BY query. Percentiles are nearest-rank, as in
+	 * the in-memory statistics; employees without a salary are not counted.
+	 */
+	List<SalaryStats> computeSalaryStats(boolean byProvince);
+
+}
@@ -0,0 +1,62 @@
+package com.fdmgroup.EmployeeApiAndreea.repository;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.fdmgroup.EmployeeApiAndreea.model.SalaryStats;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+	private static final int FETCH_SIZE = 500;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	@Transactional(readOnly = true)
+	public void forEachEmployee(Consumer<Employee> action) {
+		try (Stream<Employee> employees = entityManager
+				.createQuery("select e from Employee e order by e.id", Employee.class)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
+				.getResultStream()) {
+			employees.forEach(employee -> {
+				action.accept(employee);
+				entityManager.detach(employee);
+			});
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<SalaryStats> computeSalaryStats(boolean byProvince) {
+		// percentile_disc is the nearest-rank percentile; it has no JPQL equivalent.
+		// Countries are grouped by their normalized key and named by the first
+		// spelling, as SalaryStatistics does.
+		String groupBy = byProvince ? "countryKey, province" : "countryKey";
+		List<?> rows = entityManager.createNativeQuery("select min(country), " + (byProvince ? "province" : "null")
+				+ ", count(*), sum(salary), min(salary), max(salary),"
+				+ " percentile_disc(0.5) within group (order by salary),"
+				+ " percentile_disc(0.95) within group (order by salary)"
+				+ " from Employee where salary is not null group by " + groupBy + " order by " + groupBy)
+				.getResultList();
+		return rows.stream().map(Object[].class::cast).map(row -> {
+			long count = ((Number) row[2]).longValue();
+			BigDecimal sum = (BigDecimal) row[3];
+			return new SalaryStats((String) row[0], (String) row[1], count, sum,
+					sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL128), (BigDecimal) row[4],
+					(BigDecimal) row[5], (BigDecimal) row[6], (BigDecimal) row[7]);
+		}).toList();
+	}
+
+}
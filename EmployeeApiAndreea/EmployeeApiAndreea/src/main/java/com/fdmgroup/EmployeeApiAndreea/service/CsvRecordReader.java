@@ -0,0 +1,74 @@
+package com.fdmgroup.EmployeeApiAndreea.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental RFC 4180 reader: returns one record at a time, reading only as
+ * far as the end of that record. Quoted fields may hold separators, doubled
+ * quotes and line breaks; both CRLF and LF end a record. Blank lines are
+ * skipped.
+ */
+class CsvRecordReader {
+
+	private final Reader reader;
+
+	CsvRecordReader(Reader reader) {
+		super();
+		this.reader = reader;
+	}
+
+	/**
+	 * @return the fields of the next non-blank record, or null at the end of
+	 *         the input
+	 * @throws IOException if reading fails
+	 */
+	List<String> next() throws IOException {
+		List<String> fields;
+		do {
+			fields = read();
+		} while (fields != null && fields.size() == 1 && fields.get(0).isEmpty());
+		return fields;
+	}
+
+	private List<String> read() throws IOException {
+		int c = reader.read();
+		if (c == -1) {
+			return null;
+		}
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		while (true) {
+			if (quoted) {
+				if (c == -1) {
+					// unterminated quote: keep what was read, the row is most likely invalid
+					fields.add(field.toString());
+					return fields;
+				}
+				if (c == '"') {
+					c = reader.read();
+					if (c != '"') {
+						quoted = false;
+						continue;
+					}
+				}
+				field.append((char) c);
+			} else if (c == '"' && field.length() == 0) {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else if (c == '\n' || c == -1) {
+				fields.add(field.toString());
+				return fields;
+			} else if (c != '\r') {
+				field.append((char) c);
+			}
+			c = reader.read();
+		}
+	}
+
+}
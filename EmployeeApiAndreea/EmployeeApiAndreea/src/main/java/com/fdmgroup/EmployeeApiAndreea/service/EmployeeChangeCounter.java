@@ -0,0 +1,88 @@
+package com.fdmgroup.EmployeeApiAndreea.service;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fdmgroup.EmployeeApiAndreea.repository.EmployeeChangeRepository;
+import com.fdmgroup.EmployeeApiAndreea.repository.EmployeeChangeRepository.LastChange;
+
+/**
+ * Table-level change counter for the employee table, used to derive weak
+ * ETags without reading any employee. The counter is the offset of the last
+ * committed change in the {@link EmployeeChangeLog}, which every instance
+ * shares through the database, so all instances give the same tag for the same
+ * data. The time of that change is part of the tag, so that tags from before
+ * the database was recreated never match.
+ * <p>
+ * The employee caches are keyed by the offset a request read here before
+ * reading any employee, so what they hold under an offset is at least as new
+ * as that offset. Once a change commits, on this instance or another, new
+ * requests read a higher offset and miss the entries of older ones, even those
+ * a slow reader stores after the change. The caches are cleared when a higher
+ * offset is first seen, which only frees entries no request will look up
+ * again.
+ */
+@Component
+public class EmployeeChangeCounter {
+
+	private final EmployeeChangeRepository changeRepo;
+	private final CacheManager cacheManager;
+	private final AtomicLong lastSeen = new AtomicLong();
+
+	public EmployeeChangeCounter(EmployeeChangeRepository changeRepo, CacheManager cacheManager) {
+		super();
+		this.changeRepo = changeRepo;
+		this.cacheManager = cacheManager;
+	}
+
+	/**
+	 * The offset of the last committed change and the ETag derived from it. The
+	 * ETag is weak because it identifies the content rather than its bytes,
+	 * which lets the server gzip responses that carry it.
+	 *
+	 * @param position the offset to key cached employees by
+	 * @param etag     an ETag value that changes whenever any employee changes
+	 */
+	public record Tag(long position, String etag) {
+	}
+
+	/**
+	 * @return the offset of the last committed change and its ETag
+	 */
+	@Transactional(readOnly = true)
+	public Tag current() {
+		LastChange last = changeRepo.findLastChange();
+		long position = last.getLastPosition();
+		advance(position);
+		Instant occurredAt = last.getOccurredAt();
+		return new Tag(position, "W/\"" + position
+				+ (occurredAt == null ? "" : "-" + Long.toString(occurredAt.toEpochMilli(), Character.MAX_RADIX))
+				+ "\"");
+	}
+
+	/**
+	 * Records that the changes up to the offset have committed, clearing the
+	 * employee caches if it is higher than any seen before.
+	 *
+	 * @param position the offset of a committed change
+	 */
+	void advance(long position) {
+		if (lastSeen.getAndAccumulate(position, Math::max) < position) {
+			clear(EmployeeService.EMPLOYEE_CACHE);
+			clear(EmployeeService.EMPLOYEES_CACHE);
+		}
+	}
+
+	private void clear(String name) {
+		Cache cache = cacheManager.getCache(name);
+		if (cache != null) {
+			cache.clear();
+		}
+	}
+
+}
@@ -0,0 +1,240 @@
+package com.fdmgroup.EmployeeApiAndreea.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fdmgroup.EmployeeApiAndreea.event.EmployeeChangedEvent;
+import com.fdmgroup.EmployeeApiAndreea.exception.ChangesExpiredException;
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeeChange;
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeeChangeSequence;
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeeDelta;
+import com.fdmgroup.EmployeeApiAndreea.repository.EmployeeChangeRepository;
+import com.fdmgroup.EmployeeApiAndreea.repository.EmployeeRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * The employee change log behind {@code /api/v1/employees/changes}, kept as a
+ * transactional outbox. The {@link EmployeeChangedEvent}s of a transaction are
+ * written to the log just before it commits, so the log holds exactly the
+ * committed changes. Their offsets are reserved from the
+ * {@link EmployeeChangeSequence} at the same point, which serializes the
+ * commits of concurrent writers for as long as it takes to insert their
+ * changes: offsets follow commit order, and a consumer never finds a change
+ * appearing behind an offset it has already read.
+ * <p>
+ * The same offsets serve as sync tokens for {@link #findModifiedSince(long)}.
+ * Once a transaction has committed, its last offset is passed to the
+ * {@link EmployeeChangeCounter}.
+ */
+@Service
+public class EmployeeChangeLog {
+
+	private final EmployeeChangeRepository changeRepo;
+	private final EmployeeRepository employeeRepo;
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
+	private final EmployeeChangeCounter changeCounter;
+	private final int maxDeltaChanges;
+
+	public EmployeeChangeLog(EmployeeChangeRepository changeRepo, EmployeeRepository employeeRepo,
+			EntityManager entityManager, ObjectMapper objectMapper, EmployeeChangeCounter changeCounter,
+			@Value("${employee.changes.max-delta:10000}") int maxDeltaChanges) {
+		super();
+		this.changeRepo = changeRepo;
+		this.employeeRepo = employeeRepo;
+		this.entityManager = entityManager;
+		this.objectMapper = objectMapper;
+		this.changeCounter = changeCounter;
+		this.maxDeltaChanges = maxDeltaChanges;
+	}
+
+	/**
+	 * Adds a change to those the current transaction writes to the log when it
+	 * commits.
+	 *
+	 * @throws IllegalStateException if no transaction is active, as the change
+	 *                               could not be logged atomically
+	 */
+	@EventListener
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			throw new IllegalStateException("Employee changes must be made in a transaction: " + event);
+		}
+		PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+		if (pending == null) {
+			pending = new PendingChanges();
+			TransactionSynchronizationManager.bindResource(this, pending);
+			TransactionSynchronizationManager.registerSynchronization(pending);
+		}
+		pending.events.add(event);
+	}
+
+	/**
+	 * @return the offset of the last change committed
+	 */
+	@Transactional(readOnly = true)
+	public long lastPosition() {
+		return changeRepo.findLastPosition();
+	}
+
+	/**
+	 * Retrieves the changes after the given offset, in offset order.
+	 *
+	 * @param since the offset of the last change already seen, 0 to start from
+	 *              the oldest change kept
+	 * @param limit the maximum number of changes to return
+	 * @return at most {@code limit} changes
+	 * @throws ChangesExpiredException if changes right after {@code since}
+	 *                                 have already been deleted
+	 */
+	@Transactional(readOnly = true)
+	public List<EmployeeChange> findSince(long since, int limit) {
+		List<EmployeeChange> changes = changeRepo.findByPositionGreaterThanOrderByPositionAsc(since,
+				PageRequest.ofSize(limit));
+		// Offsets have no gaps, so a gap after since means it was pruned
+		if (since > 0 && !changes.isEmpty() && changes.get(0).getPosition() > since + 1) {
+			throw new ChangesExpiredException("Changes after offset " + since
+					+ " are no longer kept; the oldest kept offset is " + changes.get(0).getPosition() + ".");
+		}
+		return changes;
+	}
+
+	/**
+	 * Retrieves what changed in the employees after the given sync token. Each
+	 * employee changed since then appears once, in its latest logged state, or
+	 * among the deleted IDs if its last change deleted it. All employees are
+	 * returned instead, as a full delta, when the token is 0, when the changes
+	 * after it are no longer kept, when there are more than
+	 * {@code employee.changes.max-delta} of them, or when it is ahead of the log
+	 * (a token from before the database was reset).
+	 *
+	 * @param since the token of the previous delta, 0 for the first call
+	 * @return the delta, with the token to pass next time
+	 */
+	@Transactional(readOnly = true)
+	public EmployeeDelta findModifiedSince(long since) {
+		if (since <= 0) {
+			return findAllEmployees();
+		}
+		List<EmployeeChange> changes;
+		try {
+			changes = findSince(since, maxDeltaChanges + 1);
+		} catch (ChangesExpiredException e) {
+			return findAllEmployees();
+		}
+		if (changes.size() > maxDeltaChanges || (changes.isEmpty() && since > lastPosition())) {
+			return findAllEmployees();
+		}
+		// The last change of each employee wins
+		Map<Long, EmployeeChange> latest = new LinkedHashMap<>();
+		for (EmployeeChange change : changes) {
+			latest.remove(change.getEmployeeId());
+			latest.put(change.getEmployeeId(), change);
+		}
+		List<Employee> employees = new ArrayList<>();
+		List<Long> deleted = new ArrayList<>();
+		for (EmployeeChange change : latest.values()) {
+			if (change.getType() == EmployeeChangedEvent.Type.DELETED) {
+				deleted.add(change.getEmployeeId());
+			} else {
+				employees.add(fromJson(change.getEmployee()));
+			}
+		}
+		long token = changes.isEmpty() ? since : changes.get(changes.size() - 1).getPosition();
+		return new EmployeeDelta(token, false, employees, deleted);
+	}
+
+	/**
+	 * Deletes the changes older than the retention period, always keeping the
+	 * last one.
+	 *
+	 * @param retention how long changes are kept
+	 * @return the number of changes deleted
+	 */
+	@Transactional
+	public int prune(Duration retention) {
+		return changeRepo.deleteOccurredBefore(Instant.now().minus(retention));
+	}
+
+	// Returns the offset of the last change appended
+	private long append(List<EmployeeChangedEvent> events) {
+		// The employee writes go first, so that the sequence row is only locked
+		// while the changes are inserted and committed
+		entityManager.flush();
+		long position = changeRepo.reservePositions(events.size()) - events.size();
+		Instant now = Instant.now();
+		for (EmployeeChangedEvent event : events) {
+			Employee employee = event.getEmployee();
+			entityManager.persist(new EmployeeChange(++position, event.getType(), event.getId(),
+					employee == null ? null : employee.getVersion(), now, toJson(employee)));
+		}
+		return position;
+	}
+
+	// The token is read first, so the employees reflect at least every change up
+	// to it; changes after it that they already reflect are applied again, to
+	// the same effect, by the next delta
+	private EmployeeDelta findAllEmployees() {
+		long token = lastPosition();
+		return new EmployeeDelta(token, true, employeeRepo.findAll(Sort.by("id")), List.of());
+	}
+
+	private Employee fromJson(String employee) {
+		try {
+			return objectMapper.readValue(employee, Employee.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not deserialize " + employee, e);
+		}
+	}
+
+	private String toJson(Employee employee) {
+		try {
+			return employee == null ? null : objectMapper.writeValueAsString(employee);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not serialize " + employee, e);
+		}
+	}
+
+	// The changes of one transaction, logged when it is about to commit; the
+	// employees are serialized then, once their versions are final
+	private final class PendingChanges implements TransactionSynchronization {
+
+		private final List<EmployeeChangedEvent> events = new ArrayList<>();
+		private long lastPosition;
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			lastPosition = append(events);
+		}
+
+		@Override
+		public void afterCommit() {
+			changeCounter.advance(lastPosition);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResource(EmployeeChangeLog.this);
+		}
+
+	}
+
+}
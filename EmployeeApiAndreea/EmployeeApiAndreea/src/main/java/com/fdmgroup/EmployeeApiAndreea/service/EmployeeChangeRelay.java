@@ -0,0 +1,168 @@
+package com.fdmgroup.EmployeeApiAndreea.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeeChange;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Pushes the {@link EmployeeChangeLog} to its subscribers: every
+ * {@code employee.changes.poll-interval} it reads the last committed offset
+ * and sends each subscriber that is behind the changes it has not seen yet.
+ * Every hour it also prunes the changes older than
+ * {@code employee.changes.retention}.
+ * <p>
+ * Subscribers are served on their own threads, one delivery at a time each,
+ * so a slow consumer only delays itself. The number of subscribers and of
+ * changes delivered are exposed as {@code employee.changes.subscribers} and
+ * {@code employee.changes.delivered}.
+ */
+@Component
+public class EmployeeChangeRelay implements SmartLifecycle {
+
+	/**
+	 * Receives the changes of one subscription, in position order.
+	 */
+	@FunctionalInterface
+	public interface Subscriber {
+		void send(List<EmployeeChange> changes) throws IOException;
+	}
+
+	/** Changes read and pushed at once per subscriber. */
+	static final int DELIVERY_BATCH_SIZE = 500;
+	private static final Duration PRUNE_INTERVAL = Duration.ofHours(1);
+
+	private static final Logger logger = LoggerFactory.getLogger(EmployeeChangeRelay.class);
+
+	private final EmployeeChangeLog changeLog;
+	private final Duration pollInterval;
+	private final Duration retention;
+	private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+	private final Counter delivered;
+	private long nextPrune;
+	private ScheduledExecutorService scheduler;
+	private ExecutorService deliveries;
+
+	public EmployeeChangeRelay(EmployeeChangeLog changeLog, MeterRegistry registry,
+			@Value("${employee.changes.poll-interval:200ms}") Duration pollInterval,
+			@Value("${employee.changes.retention:7d}") Duration retention) {
+		super();
+		this.changeLog = changeLog;
+		this.pollInterval = pollInterval;
+		this.retention = retention;
+		this.delivered = registry.counter("employee.changes.delivered");
+		registry.gaugeCollectionSize("employee.changes.subscribers", List.of(), subscriptions);
+	}
+
+	/**
+	 * Pushes every change after the given position to the subscriber, then
+	 * every new change, until cancelled or until delivery fails.
+	 *
+	 * @param since      the position of the last change the subscriber has seen
+	 * @param subscriber receives the changes
+	 * @param onError    called with the reason delivery stopped, if it did
+	 * @return cancels the subscription
+	 */
+	public Runnable subscribe(long since, Subscriber subscriber, Consumer<Exception> onError) {
+		Subscription subscription = new Subscription(since, subscriber, onError);
+		subscriptions.add(subscription);
+		return () -> subscriptions.remove(subscription);
+	}
+
+	@Override
+	public void start() {
+		nextPrune = System.nanoTime();
+		deliveries = Executors.newCachedThreadPool(new CustomizableThreadFactory("change-delivery-"));
+		scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("change-relay-"));
+		scheduler.scheduleWithFixedDelay(this::relay, pollInterval.toMillis(), pollInterval.toMillis(),
+				TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public void stop() {
+		scheduler.shutdownNow();
+		deliveries.shutdownNow();
+		scheduler = null;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return scheduler != null;
+	}
+
+	private void relay() {
+		try {
+			long last = subscriptions.isEmpty() ? 0 : changeLog.lastPosition();
+			for (Subscription subscription : subscriptions) {
+				if (subscription.position < last && subscription.busy.compareAndSet(false, true)) {
+					deliveries.execute(() -> deliver(subscription));
+				}
+			}
+			if (System.nanoTime() - nextPrune >= 0) {
+				nextPrune = System.nanoTime() + PRUNE_INTERVAL.toNanos();
+				int pruned = changeLog.prune(retention);
+				if (pruned > 0) {
+					logger.info("Pruned {} employee changes older than {}", pruned, retention);
+				}
+			}
+		} catch (RuntimeException e) {
+			logger.warn("Could not relay employee changes", e);
+		}
+	}
+
+	private void deliver(Subscription subscription) {
+		try {
+			List<EmployeeChange> changes;
+			do {
+				changes = changeLog.findSince(subscription.position, DELIVERY_BATCH_SIZE);
+				if (changes.isEmpty() || !subscriptions.contains(subscription)) {
+					return;
+				}
+				subscription.subscriber.send(changes);
+				subscription.position = changes.get(changes.size() - 1).getPosition();
+				delivered.increment(changes.size());
+			} while (changes.size() == DELIVERY_BATCH_SIZE);
+		} catch (IOException | RuntimeException e) {
+			subscriptions.remove(subscription);
+			subscription.onError.accept(e);
+		} finally {
+			subscription.busy.set(false);
+		}
+	}
+
+	private static final class Subscription {
+
+		private final Subscriber subscriber;
+		private final Consumer<Exception> onError;
+		private final AtomicBoolean busy = new AtomicBoolean();
+		// Only touched by the delivery in progress
+		private volatile long position;
+
+		private Subscription(long position, Subscriber subscriber, Consumer<Exception> onError) {
+			this.position = position;
+			this.subscriber = subscriber;
+			this.onError = onError;
+		}
+
+	}
+
+}
@@ -0,0 +1,160 @@
+package com.fdmgroup.EmployeeApiAndreea.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Exports the employee table as CSV or NDJSON. Rows are read with plain JDBC
+ * through a forward-only cursor with a fixed fetch size and written to the
+ * output as they arrive; no entity is created and nothing is kept per row, so
+ * memory use does not depend on the number of employees and the first bytes
+ * are sent before the query has finished.
+ */
+@Service
+@Timed(value = "employee.export", histogram = true)
+public class EmployeeExporter {
+
+	public enum Format {
+		CSV, NDJSON
+	}
+
+	/** Rows fetched from the database per round trip. */
+	static final int FETCH_SIZE = 1000;
+	private static final String QUERY = "select id, firstName, lastName, salary, province, country, version"
+			+ " from Employee order by id";
+	private static final String CSV_HEADER = "id,firstName,lastName,salary,province,country,version";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+
+	public EmployeeExporter(DataSource dataSource, ObjectMapper objectMapper) {
+		super();
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Writes every employee to the output in ID order. The output is flushed
+	 * but not closed.
+	 *
+	 * @param format the format to write
+	 * @param output the stream to write to
+	 * @throws UncheckedIOException if writing fails
+	 */
+	@Transactional(readOnly = true)
+	public void export(Format format, OutputStream output) {
+		try {
+			if (format == Format.NDJSON) {
+				exportNdjson(output);
+			} else {
+				exportCsv(output);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void exportCsv(OutputStream output) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+		writer.write(CSV_HEADER);
+		writer.write("\r\n");
+		writer.flush();
+		forEachRow(rs -> {
+			try {
+				BigDecimal salary = rs.getBigDecimal(4);
+				writer.write(Long.toString(rs.getLong(1)));
+				writer.write(',');
+				writeCsvField(writer, rs.getString(2));
+				writer.write(',');
+				writeCsvField(writer, rs.getString(3));
+				writer.write(',');
+				writeCsvField(writer, salary == null ? null : salary.toPlainString());
+				writer.write(',');
+				writeCsvField(writer, rs.getString(5));
+				writer.write(',');
+				writeCsvField(writer, rs.getString(6));
+				writer.write(',');
+				writeCsvField(writer, rs.getString(7));
+				writer.write("\r\n");
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		writer.flush();
+	}
+
+	private void exportNdjson(OutputStream output) throws IOException {
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			// one object per line, without Jackson's default space between root values
+			generator.setRootValueSeparator(null);
+			forEachRow(rs -> {
+				try {
+					generator.writeStartObject();
+					generator.writeNumberField("id", rs.getLong(1));
+					generator.writeStringField("firstName", rs.getString(2));
+					generator.writeStringField("lastName", rs.getString(3));
+					BigDecimal salary = rs.getBigDecimal(4);
+					if (salary == null) {
+						generator.writeNullField("salary");
+					} else {
+						generator.writeNumberField("salary", salary);
+					}
+					generator.writeStringField("province", rs.getString(5));
+					generator.writeStringField("country", rs.getString(6));
+					long version = rs.getLong(7);
+					if (rs.wasNull()) {
+						generator.writeNullField("version");
+					} else {
+						generator.writeNumberField("version", version);
+					}
+					generator.writeEndObject();
+					generator.writeRaw('\n');
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		}
+	}
+
+	private void forEachRow(RowCallbackHandler handler) {
+		jdbcTemplate.query(connection -> connection.prepareStatement(QUERY, ResultSet.TYPE_FORWARD_ONLY,
+				ResultSet.CONCUR_READ_ONLY), handler);
+	}
+
+	// RFC 4180: quote fields holding a separator, a quote or a line break, and
+	// double the quotes inside them; null is written as an empty field
+	private static void writeCsvField(Writer writer, String value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			writer.write(value);
+			return;
+		}
+		writer.write('"');
+		writer.write(value.replace("\"", "\"\""));
+		writer.write('"');
+	}
+
+}
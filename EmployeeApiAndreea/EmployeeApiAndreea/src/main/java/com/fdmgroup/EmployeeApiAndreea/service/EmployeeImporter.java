@@ -0,0 +1,292 @@
+package com.fdmgroup.EmployeeApiAndreea.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fdmgroup.EmployeeApiAndreea.model.BatchItemResult;
+import com.fdmgroup.EmployeeApiAndreea.model.BatchItemResult.Status;
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.fdmgroup.EmployeeApiAndreea.model.ImportReport;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Bulk import of employees from a CSV or NDJSON upload. The upload is parsed
+ * incrementally on the caller's thread and cut into chunks of
+ * {@code employee.import.chunk-size} rows; each chunk is validated on a pool of
+ * {@code employee.import.validation-threads} workers and the valid rows of
+ * each chunk are inserted in their own transaction, in upload order, through
+ * {@link EmployeeService#insertValidated(List)}.
+ * <p>
+ * At most {@code employee.import.max-in-flight-chunks} chunks are parsed but
+ * not yet written; when that many are pending, parsing waits for the oldest
+ * one to be written. Memory use is therefore bounded by the chunk size, not
+ * by the size of the upload. Chunks written before a failure stay written.
+ * <p>
+ * CSV uploads need a header row naming the columns (as produced by
+ * {@link EmployeeExporter}); {@code id} and {@code version} are ignored, as are
+ * unknown columns.
+ */
+@Service
+@Timed(value = "employee.import", histogram = true)
+public class EmployeeImporter {
+
+	public enum Format {
+		CSV, NDJSON
+	}
+
+	/** Rejected rows listed in a report; the rest are only counted. */
+	static final int MAX_REPORTED_ERRORS = 1000;
+
+	private static final Logger logger = LoggerFactory.getLogger(EmployeeImporter.class);
+
+	private final EmployeeService employeeService;
+	private final Validator validator;
+	private final ObjectMapper objectMapper;
+	private final int chunkSize;
+	private final int maxInFlightChunks;
+	private final ExecutorService validationPool;
+
+	public EmployeeImporter(EmployeeService employeeService, Validator validator, ObjectMapper objectMapper,
+			@Value("${employee.import.chunk-size:500}") int chunkSize,
+			@Value("${employee.import.max-in-flight-chunks:4}") int maxInFlightChunks,
+			@Value("${employee.import.validation-threads:0}") int validationThreads) {
+		super();
+		this.employeeService = employeeService;
+		this.validator = validator;
+		this.objectMapper = objectMapper;
+		this.chunkSize = chunkSize;
+		this.maxInFlightChunks = maxInFlightChunks;
+		this.validationPool = Executors.newFixedThreadPool(
+				validationThreads > 0 ? validationThreads : Runtime.getRuntime().availableProcessors(),
+				new CustomizableThreadFactory("employee-import-"));
+	}
+
+	/**
+	 * Imports every row of the upload.
+	 *
+	 * @param format the format of the upload
+	 * @param input  the upload, UTF-8 encoded; it is read to the end but not
+	 *               closed
+	 * @return the counts, the throughput and the rejected rows
+	 * @throws UncheckedIOException if reading the upload fails
+	 */
+	public ImportReport importEmployees(Format format, InputStream input) {
+		long start = System.nanoTime();
+		Progress progress = new Progress();
+		Deque<Future<ValidatedChunk>> inFlight = new ArrayDeque<>();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+		try {
+			RowSource rows = format == Format.NDJSON ? new NdjsonRows(reader) : new CsvRows(new CsvRecordReader(reader));
+			List<Row> chunk = new ArrayList<>(chunkSize);
+			for (Row row = rows.next(); row != null; row = rows.next()) {
+				chunk.add(row);
+				if (chunk.size() == chunkSize) {
+					submit(chunk, inFlight, progress);
+					chunk = new ArrayList<>(chunkSize);
+				}
+			}
+			if (!chunk.isEmpty()) {
+				submit(chunk, inFlight, progress);
+			}
+			while (!inFlight.isEmpty()) {
+				write(inFlight.poll(), progress);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			inFlight.forEach(pending -> pending.cancel(true));
+		}
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		ImportReport report = new ImportReport(progress.rows, progress.created, progress.invalid, elapsedMillis,
+				progress.errors, progress.invalid > progress.errors.size());
+		logger.info("Imported {} of {} rows in {} ms ({} rows/s)", report.getCreated(), report.getRows(),
+				elapsedMillis, Math.round(report.getRowsPerSecond()));
+		return report;
+	}
+
+	@PreDestroy
+	public void close() {
+		validationPool.shutdownNow();
+	}
+
+	// Waits for the oldest chunk first when too many are pending, so parsing
+	// never runs more than maxInFlightChunks ahead of the database
+	private void submit(List<Row> chunk, Deque<Future<ValidatedChunk>> inFlight, Progress progress) {
+		progress.rows += chunk.size();
+		if (inFlight.size() >= maxInFlightChunks) {
+			write(inFlight.poll(), progress);
+		}
+		inFlight.add(validationPool.submit(() -> validate(chunk)));
+	}
+
+	private void write(Future<ValidatedChunk> pending, Progress progress) {
+		ValidatedChunk chunk;
+		try {
+			chunk = pending.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for import validation", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Import validation failed", e.getCause());
+		}
+		if (!chunk.valid().isEmpty()) {
+			progress.created += employeeService.insertValidated(chunk.valid()).size();
+		}
+		progress.invalid += chunk.invalid().size();
+		for (BatchItemResult error : chunk.invalid()) {
+			if (progress.errors.size() == MAX_REPORTED_ERRORS) {
+				break;
+			}
+			progress.errors.add(error);
+		}
+	}
+
+	private ValidatedChunk validate(List<Row> chunk) {
+		List<Employee> valid = new ArrayList<>(chunk.size());
+		List<BatchItemResult> invalid = new ArrayList<>();
+		for (Row row : chunk) {
+			List<String> errors = row.error() != null ? List.of(row.error())
+					: validator.validate(row.employee()).stream().map(ConstraintViolation::getMessage).toList();
+			if (errors.isEmpty()) {
+				valid.add(row.employee());
+			} else {
+				invalid.add(new BatchItemResult(row.number(), 0, Status.INVALID, errors));
+			}
+		}
+		return new ValidatedChunk(valid, invalid);
+	}
+
+	// One parsed row; error is set instead of employee when it could not be parsed
+	private record Row(int number, Employee employee, String error) {
+	}
+
+	private record ValidatedChunk(List<Employee> valid, List<BatchItemResult> invalid) {
+	}
+
+	// Touched by the importing thread only
+	private static class Progress {
+		long rows;
+		long created;
+		long invalid;
+		final List<BatchItemResult> errors = new ArrayList<>();
+	}
+
+	private interface RowSource {
+		Row next() throws IOException;
+	}
+
+	private class NdjsonRows implements RowSource {
+
+		private final BufferedReader reader;
+		private int number;
+
+		NdjsonRows(BufferedReader reader) {
+			this.reader = reader;
+		}
+
+		@Override
+		public Row next() throws IOException {
+			String line;
+			do {
+				line = reader.readLine();
+			} while (line != null && line.isBlank());
+			if (line == null) {
+				return null;
+			}
+			number++;
+			try {
+				return new Row(number, objectMapper.readValue(line, Employee.class), null);
+			} catch (JsonProcessingException e) {
+				return new Row(number, null, "Malformed JSON: " + e.getOriginalMessage());
+			}
+		}
+	}
+
+	private static class CsvRows implements RowSource {
+
+		private static final Set<String> IGNORED_COLUMNS = Set.of("id", "version");
+
+		private final CsvRecordReader reader;
+		private Map<String, Integer> columns;
+		private int number;
+
+		CsvRows(CsvRecordReader reader) {
+			this.reader = reader;
+		}
+
+		@Override
+		public Row next() throws IOException {
+			if (columns == null) {
+				List<String> header = reader.next();
+				if (header == null) {
+					return null;
+				}
+				columns = new HashMap<>();
+				for (int i = 0; i < header.size(); i++) {
+					String column = header.get(i).strip().toLowerCase(Locale.ROOT);
+					if (!IGNORED_COLUMNS.contains(column)) {
+						columns.put(column, i);
+					}
+				}
+			}
+			List<String> fields = reader.next();
+			if (fields == null) {
+				return null;
+			}
+			number++;
+			Employee employee = new Employee();
+			employee.setFirstName(field(fields, "firstname"));
+			employee.setLastName(field(fields, "lastname"));
+			employee.setProvince(field(fields, "province"));
+			employee.setCountry(field(fields, "country"));
+			String salary = field(fields, "salary");
+			if (salary != null) {
+				try {
+					employee.setSalary(new BigDecimal(salary.strip()));
+				} catch (NumberFormatException e) {
+					return new Row(number, null, "Salary is not a number: " + salary);
+				}
+			}
+			return new Row(number, employee, null);
+		}
+
+		// Empty and missing fields are null, so they fail the @NotBlank checks
+		private String field(List<String> fields, String column) {
+			Integer index = columns.get(column);
+			if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+				return null;
+			}
+			return fields.get(index);
+		}
+	}
+
+}
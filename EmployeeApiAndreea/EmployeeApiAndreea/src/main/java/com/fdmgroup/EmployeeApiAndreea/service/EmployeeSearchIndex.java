@@ -0,0 +1,191 @@
+package com.fdmgroup.EmployeeApiAndreea.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fdmgroup.EmployeeApiAndreea.event.EmployeeChangedEvent;
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.fdmgroup.EmployeeApiAndreea.repository.EmployeeRepository;
+
+/**
+ * In-memory n-gram index over employees' full names ("first last"). Every
+ * substring of up to {@value #GRAM} characters of a name points at the IDs of
+ * the employees containing it, so substring and prefix searches are answered by
+ * intersecting a few posting sets instead of scanning the table.
+ * <p>
+ * The index is loaded once the application is ready and then kept up to date
+ * from {@link EmployeeChangedEvent}s after each commit. It holds every name in
+ * memory, so it is only created while {@code employee.memory-indexes.enabled}
+ * is true; otherwise searches go to the database.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.memory-indexes.enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeSearchIndex {
+
+	private static final int GRAM = 3;
+	private static final Logger logger = LoggerFactory.getLogger(EmployeeSearchIndex.class);
+
+	private final EmployeeRepository employeeRepo;
+	private final Map<Long, String> names = new HashMap<>();
+	private final Map<String, Set<Long>> postings = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public EmployeeSearchIndex(EmployeeRepository employeeRepo) {
+		super();
+		this.employeeRepo = employeeRepo;
+	}
+
+	/**
+	 * Loads every employee into the index. The load runs in a read-write
+	 * transaction so that it reads the primary, where the changes applied
+	 * afterwards come from, rather than a possibly lagging read replica.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void load() {
+		employeeRepo.forEachEmployee(this::put);
+		logger.debug("Search index loaded with {} employees", size());
+	}
+
+	/**
+	 * Applies a committed employee change to the index.
+	 *
+	 * @param event the change
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		if (event.getType() == EmployeeChangedEvent.Type.DELETED) {
+			remove(event.getId());
+		} else {
+			put(event.getEmployee());
+		}
+	}
+
+	/**
+	 * Finds the employees whose full name contains the term, ignoring case.
+	 *
+	 * @param term  the text to look for
+	 * @param limit the maximum number of IDs to return
+	 * @return the matching employee IDs in ascending order
+	 */
+	public List<Long> search(String term, int limit) {
+		String query = normalize(term);
+		if (query.isEmpty()) {
+			return List.of();
+		}
+		lock.readLock().lock();
+		try {
+			List<Long> ids = new ArrayList<>(candidates(query));
+			if (query.length() > GRAM) {
+				ids.removeIf(id -> !names.get(id).contains(query));
+			}
+			Collections.sort(ids);
+			return ids.size() > limit ? List.copyOf(ids.subList(0, limit)) : ids;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return the number of indexed employees
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return names.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	void put(Employee employee) {
+		String name = normalize(employee.getFirstName() + " " + employee.getLastName());
+		lock.writeLock().lock();
+		try {
+			String previous = names.put(employee.getId(), name);
+			if (previous != null) {
+				unindex(employee.getId(), previous);
+			}
+			for (String gram : grams(name)) {
+				postings.computeIfAbsent(gram, key -> new HashSet<>()).add(employee.getId());
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	void remove(long id) {
+		lock.writeLock().lock();
+		try {
+			String previous = names.remove(id);
+			if (previous != null) {
+				unindex(id, previous);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// Terms up to GRAM characters are a posting list of their own; longer terms
+	// intersect the postings of their grams, smallest first.
+	private Set<Long> candidates(String query) {
+		if (query.length() <= GRAM) {
+			return postings.getOrDefault(query, Set.of());
+		}
+		List<Set<Long>> sets = new ArrayList<>();
+		for (int i = 0; i + GRAM <= query.length(); i++) {
+			Set<Long> ids = postings.get(query.substring(i, i + GRAM));
+			if (ids == null) {
+				return Set.of();
+			}
+			sets.add(ids);
+		}
+		sets.sort((a, b) -> Integer.compare(a.size(), b.size()));
+		Set<Long> result = new HashSet<>(sets.get(0));
+		for (int i = 1; i < sets.size() && !result.isEmpty(); i++) {
+			result.retainAll(sets.get(i));
+		}
+		return result;
+	}
+
+	private void unindex(long id, String name) {
+		for (String gram : grams(name)) {
+			Set<Long> ids = postings.get(gram);
+			if (ids != null && ids.remove(id) && ids.isEmpty()) {
+				postings.remove(gram);
+			}
+		}
+	}
+
+	private static Set<String> grams(String name) {
+		Set<String> grams = new HashSet<>();
+		for (int start = 0; start < name.length(); start++) {
+			for (int end = start + 1; end <= Math.min(start + GRAM, name.length()); end++) {
+				grams.add(name.substring(start, end));
+			}
+		}
+		return grams;
+	}
+
+	private static String normalize(String text) {
+		return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+	}
+
+}
@@ -1,51 +1,180 @@
 package com.fdmgroup.EmployeeApiAndreea.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fdmgroup.EmployeeApiAndreea.event.EmployeeChangedEvent;
 import com.fdmgroup.EmployeeApiAndreea.exception.ResourceNotFoundException;
+import com.fdmgroup.EmployeeApiAndreea.exception.VersionConflictException;
+import com.fdmgroup.EmployeeApiAndreea.model.BatchItemResult;
+import com.fdmgroup.EmployeeApiAndreea.model.BatchItemResult.Status;
 import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeePatch;
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeeSort;
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeeSummary;
+import com.fdmgroup.EmployeeApiAndreea.model.SalaryStats;
 import com.fdmgroup.EmployeeApiAndreea.repository.EmployeeRepository;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Employee reads and writes. Every public method is timed as
+ * {@code employee.service}, tagged with its class and method name. Reads run
+ * in read-only transactions, which go to a read replica when replicas are
+ * configured.
+ */
 @Service
+@Timed(value = "employee.service", histogram = true)
 public class EmployeeService {
 
+	/** Cache of single employees keyed by ID and change log offset. */
+	public static final String EMPLOYEE_CACHE = "employee";
+	/**
+	 * Cache of the first page of employees in ID order, keyed by page size and
+	 * change log offset.
+	 */
+	public static final String EMPLOYEES_CACHE = "employees";
+	/** Rows written per flush; matches hibernate.jdbc.batch_size. */
+	static final int BATCH_SIZE = 50;
+
 	private final EmployeeRepository employeeRepo;
-	private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
+	private final EntityManager entityManager;
+	private final Validator validator;
+	private final Optional<EmployeeSearchIndex> searchIndex;
+	private final Optional<SalaryStatistics> salaryStatistics;
+	private final ApplicationEventPublisher eventPublisher;
 
-	public EmployeeService(EmployeeRepository employeeRepo) {
+	public EmployeeService(EmployeeRepository employeeRepo, EntityManager entityManager, Validator validator,
+			Optional<EmployeeSearchIndex> searchIndex, Optional<SalaryStatistics> salaryStatistics,
+			ApplicationEventPublisher eventPublisher) {
 		super();
 		this.employeeRepo = employeeRepo;
+		this.entityManager = entityManager;
+		this.validator = validator;
+		this.searchIndex = searchIndex;
+		this.salaryStatistics = salaryStatistics;
+		this.eventPublisher = eventPublisher;
+	}
+
+	/**
+	 * Retrieves the first keyset page of employees ordered by ID, the page
+	 * requested without any cursor.
+	 *
+	 * @param limit    the maximum number of employees in the page
+	 * @param position the change log offset read before calling, see
+	 *                 {@link EmployeeChangeCounter}
+	 * @return the employees with the lowest IDs, at most {@code limit} of them
+	 */
+	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = EMPLOYEES_CACHE)
+	public List<Employee> findFirstPage(int limit, long position) {
+		List<Employee> employees = employeeRepo.findByIdGreaterThanOrderByIdAsc(0, PageRequest.ofSize(limit));
+		return employees;
 	}
 
 	/**
-	 * Retrieves all employees.
+	 * Retrieves one keyset page of employees in the given order, starting next
+	 * to the given key. Reading backwards returns the employees just before the
+	 * key; either way the page is in ascending order.
 	 *
-	 * @return the list of all employees
+	 * @param sort      the order of the employees
+	 * @param key       the key next to which the page starts, null for the first
+	 *                  page
+	 * @param backwards whether the page ends before {@code key} rather than
+	 *                  starting after it
+	 * @param limit     the maximum number of employees in the page
+	 * @return at most {@code limit} employees, in ascending order
 	 */
-	public List<Employee> findAll() {
-		logger.info("Entering findAll() method");
-		List<Employee> employees = employeeRepo.findAll();
-		logger.info("Exiting findAll() method");
+	@Transactional(readOnly = true)
+	public List<Employee> findPage(EmployeeSort sort, EmployeeSort.Key key, boolean backwards, int limit) {
+		Pageable pageable = PageRequest.ofSize(limit);
+		if (!backwards) {
+			if (sort == EmployeeSort.ID) {
+				return employeeRepo.findByIdGreaterThanOrderByIdAsc(key == null ? 0 : key.id(), pageable);
+			}
+			return key == null ? employeeRepo.findAllByOrderByLastNameAscIdAsc(pageable)
+					: employeeRepo.findByLastNameAfter(key.lastName(), key.id(), pageable);
+		}
+		List<Employee> employees = new ArrayList<>(sort == EmployeeSort.ID
+				? employeeRepo.findByIdLessThanOrderByIdDesc(key.id(), pageable)
+				: employeeRepo.findByLastNameBefore(key.lastName(), key.id(), pageable));
+		Collections.reverse(employees);
+		return employees;
+	}
+
+	/**
+	 * Visits every employee in ID order through a forward-only cursor. Each
+	 * employee is detached once visited, so memory stays constant regardless of
+	 * the table size.
+	 *
+	 * @param action the callback invoked for each employee
+	 */
+	public void forEachEmployee(Consumer<Employee> action) {
+		employeeRepo.forEachEmployee(action);
+	}
+
+	/**
+	 * Searches employees whose full name contains the given term, ignoring case.
+	 * Matching is done by the in-memory {@link EmployeeSearchIndex} when it is
+	 * enabled, so only the matching rows are read from the database; otherwise
+	 * the database scans the names.
+	 *
+	 * @param searchTerm the text to look for in "first last"
+	 * @param limit      the maximum number of employees to return
+	 * @return the matching employees in ID order
+	 */
+	@Transactional(readOnly = true)
+	public List<Employee> searchByFullName(String searchTerm, int limit) {
+		if (searchIndex.isEmpty()) {
+			String term = searchTerm.strip().toLowerCase(Locale.ROOT);
+			if (term.isEmpty()) {
+				return List.of();
+			}
+			String pattern = "%" + term.replaceAll("[!%_]", "!$0") + "%";
+			return employeeRepo.searchByFullName(pattern, PageRequest.ofSize(limit));
+		}
+		List<Long> ids = searchIndex.get().search(searchTerm, limit);
+		List<Employee> employees = ids.isEmpty() ? List.of()
+				: employeeRepo.findAllById(ids).stream().sorted(Comparator.comparingLong(Employee::getId)).toList();
 		return employees;
 	}
 
 	/**
 	 * Retrieves an employee by their ID.
 	 *
-	 * @param id the ID of the employee to retrieve
+	 * @param id       the ID of the employee to retrieve
+	 * @param position the change log offset read before calling, see
+	 *                 {@link EmployeeChangeCounter}
 	 * @return the employee with the specified ID
 	 * @throws ResourceNotFoundException if no employee with the given ID is found
 	 */
-	public Employee findById(long id) {
-		logger.info("Entering findById() method with id: {}", id);
+	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = EMPLOYEE_CACHE)
+	public Employee findById(long id, long position) {
 		Optional<Employee> employeeOpt = employeeRepo.findById(id);
 		if (employeeOpt.isEmpty()) {
 			throw new ResourceNotFoundException("Employee with id: " + id + " not found.");
 		}
-		logger.info("Exiting findById() method");
 		return employeeOpt.get();
 	}
 
@@ -55,49 +184,270 @@ public class EmployeeService {
 	 * @param employee the employee to add
 	 * @return the added employee
 	 */
+	@Transactional
 	public Employee addEmployee(Employee employee) {
-		logger.info("Entering addEmployee() method");
+		employee.setVersion(null);
 		Employee addedEmployee = employeeRepo.save(employee);
-		logger.info("Exiting addEmployee() method");
+		eventPublisher.publishEvent(EmployeeChangedEvent.created(addedEmployee));
 		return addedEmployee;
 	}
 
 	/**
-	 * Deletes an employee by their ID.
+	 * Deletes an employee by their ID with a single DELETE statement.
 	 *
 	 * @param id the ID of the employee to delete
 	 * @throws ResourceNotFoundException if no employee with the given ID is found
 	 */
+	@Transactional
 	public void deleteById(long id) {
-		logger.info("Entering deleteById() method with id: {}", id);
-		if (!employeeRepo.existsById(id)) {
+		if (employeeRepo.deleteEmployee(id) == 0) {
 			throw new ResourceNotFoundException("Employee with id: " + id + " not found.");
 		}
-		employeeRepo.deleteById(id);
-		logger.info("Exiting deleteById() method");
+		eventPublisher.publishEvent(EmployeeChangedEvent.deleted(id));
 	}
 
 	/**
-	 * Updates an existing employee.
+	 * Replaces all the fields of an existing employee with one conditional
+	 * UPDATE. When the employee carries a version, the update only applies if
+	 * the stored employee is still at that version; without one the last writer
+	 * wins. Either way the new version is then read back by primary key, and
+	 * the returned employee and its change carry it.
 	 *
 	 * @param employee the updated employee information
 	 * @param id       the ID of the employee to update
 	 * @return the updated employee
 	 * @throws ResourceNotFoundException if no employee with the given ID is found
+	 * @throws VersionConflictException  if the employee is at another version
 	 */
+	@Transactional
 	public Employee updateEmployee(Employee employee, long id) {
-		logger.info("Entering updateEmployee() method with id: {}", id);
-		if (!employeeRepo.existsById(id)) {
-			throw new ResourceNotFoundException("Employee with id: " + id + " not found.");
+		Long version = employee.getVersion();
+		Long newVersion = employeeRepo.replace(id, employee, Employee.toCountryKey(employee.getCountry()), version);
+		if (newVersion == null) {
+			throw notUpdated(id, version);
 		}
 		employee.setId(id);
-		Employee updatedEmployee = employeeRepo.save(employee);
-		logger.info("Exiting updateEmployee() method");
+		employee.setVersion(newVersion);
+		eventPublisher.publishEvent(EmployeeChangedEvent.updated(employee));
+		return employee;
+	}
+
+	/**
+	 * Updates only the supplied fields of an existing employee with one
+	 * conditional UPDATE, under the same version rules as
+	 * {@link #updateEmployee(Employee, long)}. The updated row is then read back
+	 * by primary key, as the response and the change listeners need every field.
+	 *
+	 * @param patch the fields to change
+	 * @param id    the ID of the employee to update
+	 * @return the updated employee
+	 * @throws ResourceNotFoundException if no employee with the given ID is found
+	 * @throws VersionConflictException  if the employee is at another version
+	 */
+	@Transactional
+	public Employee patchEmployee(EmployeePatch patch, long id) {
+		if (employeeRepo.patch(id, patch, Employee.toCountryKey(patch.getCountry())) == 0) {
+			throw notUpdated(id, patch.getVersion());
+		}
+		Employee updatedEmployee = employeeRepo.findById(id).orElseThrow();
+		eventPublisher.publishEvent(EmployeeChangedEvent.updated(updatedEmployee));
 		return updatedEmployee;
 	}
 
-	public List<Employee> getByCountry(String country) {	
-		return employeeRepo.findByCountry(country);
-		 
+	/**
+	 * Retrieves salary statistics (count, sum, mean, min, max, p50, p95) per
+	 * group. Served from the incrementally maintained {@link SalaryStatistics}
+	 * when it is enabled, otherwise aggregated by the database.
+	 *
+	 * @param groupBy whether to group by country or by country and province
+	 * @return the statistics of each group
+	 */
+	@Transactional(readOnly = true)
+	public List<SalaryStats> getSalaryStats(SalaryStatistics.GroupBy groupBy) {
+		List<SalaryStats> stats = salaryStatistics.isPresent() ? salaryStatistics.get().getStats(groupBy)
+				: employeeRepo.computeSalaryStats(groupBy == SalaryStatistics.GroupBy.PROVINCE);
+		return stats;
+	}
+
+	/**
+	 * Retrieves one keyset page of the employees of a country, ignoring case.
+	 *
+	 * @param country the country to filter by
+	 * @param after   the ID after which the page starts (0 for the first page)
+	 * @param limit   the maximum number of employees in the page
+	 * @param type    {@link Employee} for full rows or {@link EmployeeSummary}
+	 *                for ID and names only
+	 * @return the matching employees in ID order
+	 */
+	@Transactional(readOnly = true)
+	public <T> List<T> getByCountry(String country, long after, int limit, Class<T> type) {
+		List<T> employees = employeeRepo.findByCountryKeyAndIdGreaterThanOrderByIdAsc(Employee.toCountryKey(country),
+				after, PageRequest.ofSize(limit), type);
+		return employees;
+	}
+
+	/**
+	 * Adds many employees in one transaction. Every employee is validated first;
+	 * the valid ones are inserted through JDBC batches and invalid ones are
+	 * reported without aborting the rest.
+	 *
+	 * @param employees the employees to add
+	 * @return one result per employee, in request order
+	 */
+	@Transactional
+	public List<BatchItemResult> addEmployees(List<Employee> employees) {
+		List<BatchItemResult> results = new ArrayList<>(employees.size());
+		int pending = 0;
+		for (int i = 0; i < employees.size(); i++) {
+			Employee employee = employees.get(i);
+			List<String> errors = validate(employee);
+			if (!errors.isEmpty()) {
+				results.add(new BatchItemResult(i, employee.getId(), Status.INVALID, errors));
+				continue;
+			}
+			employee.setId(0);
+			employee.setVersion(null);
+			entityManager.persist(employee);
+			eventPublisher.publishEvent(EmployeeChangedEvent.created(employee));
+			results.add(BatchItemResult.of(i, employee.getId(), Status.CREATED));
+			if (++pending == BATCH_SIZE) {
+				flushAndClear();
+				pending = 0;
+			}
+		}
+		flushAndClear();
+		return results;
+	}
+
+	/**
+	 * Inserts employees that the caller has already validated, in one
+	 * transaction, through JDBC batches. Used by {@link EmployeeImporter}, which
+	 * validates upload chunks in parallel before writing them.
+	 *
+	 * @param employees the valid employees to add; their ID and version are
+	 *                  reset
+	 * @return the IDs assigned to the employees, in order
+	 */
+	@Transactional
+	public List<Long> insertValidated(List<Employee> employees) {
+		List<Long> ids = new ArrayList<>(employees.size());
+		int pending = 0;
+		for (Employee employee : employees) {
+			employee.setId(0);
+			employee.setVersion(null);
+			entityManager.persist(employee);
+			eventPublisher.publishEvent(EmployeeChangedEvent.created(employee));
+			ids.add(employee.getId());
+			if (++pending == BATCH_SIZE) {
+				flushAndClear();
+				pending = 0;
+			}
+		}
+		flushAndClear();
+		return ids;
+	}
+
+	/**
+	 * Updates many employees in one transaction. Existing rows are loaded one
+	 * chunk at a time with a single query, changed in place and written back
+	 * through JDBC batches. Employees carrying a version that no longer matches
+	 * are reported as conflicts and left unchanged.
+	 *
+	 * @param employees the updated employees, identified by their ID
+	 * @return one result per employee, in request order
+	 */
+	@Transactional
+	public List<BatchItemResult> updateEmployees(List<Employee> employees) {
+		BatchItemResult[] results = new BatchItemResult[employees.size()];
+		List<Integer> chunk = new ArrayList<>(BATCH_SIZE);
+		for (int i = 0; i < employees.size(); i++) {
+			List<String> errors = validate(employees.get(i));
+			if (!errors.isEmpty()) {
+				results[i] = new BatchItemResult(i, employees.get(i).getId(), Status.INVALID, errors);
+				continue;
+			}
+			chunk.add(i);
+			if (chunk.size() == BATCH_SIZE) {
+				updateChunk(employees, chunk, results);
+				chunk.clear();
+			}
+		}
+		updateChunk(employees, chunk, results);
+		return List.of(results);
+	}
+
+	/**
+	 * Deletes many employees in one transaction, one bulk delete per chunk of IDs.
+	 *
+	 * @param ids the IDs of the employees to delete
+	 * @return one result per ID, in request order
+	 */
+	@Transactional
+	public List<BatchItemResult> deleteByIds(List<Long> ids) {
+		List<BatchItemResult> results = new ArrayList<>(ids.size());
+		for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+			List<Long> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+			Set<Long> existing = new HashSet<>(employeeRepo.findExistingIds(chunk));
+			employeeRepo.deleteAllByIdInBatch(existing);
+			for (int i = 0; i < chunk.size(); i++) {
+				long id = chunk.get(i);
+				if (existing.remove(id)) {
+					eventPublisher.publishEvent(EmployeeChangedEvent.deleted(id));
+					results.add(BatchItemResult.of(from + i, id, Status.DELETED));
+				} else {
+					results.add(BatchItemResult.of(from + i, id, Status.NOT_FOUND));
+				}
+			}
+		}
+		return results;
+	}
+
+	private void updateChunk(List<Employee> employees, List<Integer> chunk, BatchItemResult[] results) {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		Map<Long, Employee> managed = employeeRepo
+				.findAllById(chunk.stream().map(i -> employees.get(i).getId()).toList()).stream()
+				.collect(Collectors.toMap(Employee::getId, Function.identity()));
+		for (int i : chunk) {
+			Employee employee = employees.get(i);
+			Employee target = managed.get(employee.getId());
+			if (target == null) {
+				results[i] = BatchItemResult.of(i, employee.getId(), Status.NOT_FOUND);
+				continue;
+			}
+			if (employee.getVersion() != null && !employee.getVersion().equals(target.getVersion())) {
+				results[i] = BatchItemResult.of(i, employee.getId(), Status.CONFLICT);
+				continue;
+			}
+			target.setFirstName(employee.getFirstName());
+			target.setLastName(employee.getLastName());
+			target.setSalary(employee.getSalary());
+			target.setProvince(employee.getProvince());
+			target.setCountry(employee.getCountry());
+			eventPublisher.publishEvent(EmployeeChangedEvent.updated(target));
+			results[i] = BatchItemResult.of(i, employee.getId(), Status.UPDATED);
+		}
+		flushAndClear();
+	}
+
+	// A conditional update matched no row: either the employee is gone or,
+	// when a version was given, it has moved on.
+	private RuntimeException notUpdated(long id, Long version) {
+		if (version == null || !employeeRepo.existsById(id)) {
+			return new ResourceNotFoundException("Employee with id: " + id + " not found.");
+		}
+		return new VersionConflictException(
+				"Employee with id: " + id + " was modified concurrently, expected version: " + version + ".");
+	}
+
+	private List<String> validate(Employee employee) {
+		Set<ConstraintViolation<Employee>> violations = validator.validate(employee);
+		return violations.stream().map(ConstraintViolation::getMessage).toList();
+	}
+
+	private void flushAndClear() {
+		entityManager.flush();
+		entityManager.clear();
 	}
 }
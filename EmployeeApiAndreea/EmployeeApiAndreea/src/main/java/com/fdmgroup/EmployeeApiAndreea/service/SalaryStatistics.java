@@ -0,0 +1,231 @@
+package com.fdmgroup.EmployeeApiAndreea.service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fdmgroup.EmployeeApiAndreea.event.EmployeeChangedEvent;
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.fdmgroup.EmployeeApiAndreea.model.SalaryStats;
+import com.fdmgroup.EmployeeApiAndreea.repository.EmployeeRepository;
+
+/**
+ * Salary aggregates per country and per province, maintained incrementally from
+ * {@link EmployeeChangedEvent}s. Each group keeps its count, exact sum and the
+ * sorted salaries, so a change costs O(log n). Computed statistics are kept
+ * until the next change, so repeated reads are O(1).
+ * <p>
+ * Countries are grouped by {@link Employee#toCountryKey(String)}, like the
+ * country pages, so "England" and "england " are one group. A group reports
+ * the alphabetically first of its members' spellings of the country, as the
+ * database aggregation does.
+ * <p>
+ * Employees without a salary are not counted. Every salary is held in memory,
+ * so this is only created while {@code employee.memory-indexes.enabled} is
+ * true; otherwise the statistics are computed by the database.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.memory-indexes.enabled", havingValue = "true", matchIfMissing = true)
+public class SalaryStatistics {
+
+	public enum GroupBy {
+		COUNTRY, PROVINCE
+	}
+
+	private static final Logger logger = LoggerFactory.getLogger(SalaryStatistics.class);
+	private static final Comparator<GroupKey> GROUP_ORDER = Comparator
+			.comparing(GroupKey::countryKey, Comparator.nullsFirst(Comparator.naturalOrder()))
+			.thenComparing(GroupKey::province, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+	private final EmployeeRepository employeeRepo;
+	private final Map<Long, Member> members = new HashMap<>();
+	private final Map<GroupKey, Group> countries = new HashMap<>();
+	private final Map<GroupKey, Group> provinces = new HashMap<>();
+	private final Map<GroupBy, List<SalaryStats>> snapshots = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public SalaryStatistics(EmployeeRepository employeeRepo) {
+		super();
+		this.employeeRepo = employeeRepo;
+	}
+
+	/**
+	 * Loads every employee into the aggregates. The load runs in a read-write
+	 * transaction so that it reads the primary, where the changes applied
+	 * afterwards come from, rather than a possibly lagging read replica.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void load() {
+		employeeRepo.forEachEmployee(this::put);
+		logger.debug("Salary statistics loaded");
+	}
+
+	/**
+	 * Applies a committed employee change to the aggregates.
+	 *
+	 * @param event the change
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		if (event.getType() == EmployeeChangedEvent.Type.DELETED) {
+			remove(event.getId());
+		} else {
+			put(event.getEmployee());
+		}
+	}
+
+	/**
+	 * Returns the salary statistics of every group, ordered by country key then
+	 * province.
+	 *
+	 * @param groupBy whether to group by country or by country and province
+	 * @return the statistics of each group
+	 */
+	public List<SalaryStats> getStats(GroupBy groupBy) {
+		lock.readLock().lock();
+		try {
+			List<SalaryStats> snapshot = snapshots.get(groupBy);
+			if (snapshot != null) {
+				return snapshot;
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		lock.writeLock().lock();
+		try {
+			return snapshots.computeIfAbsent(groupBy, this::compute);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	void put(Employee employee) {
+		lock.writeLock().lock();
+		try {
+			removeMember(employee.getId());
+			if (employee.getSalary() != null) {
+				Member member = new Member(Employee.toCountryKey(employee.getCountry()), employee.getCountry(),
+						employee.getProvince(), employee.getSalary());
+				members.put(employee.getId(), member);
+				countries.computeIfAbsent(member.countryGroup(), key -> new Group()).add(member);
+				provinces.computeIfAbsent(member.provinceGroup(), key -> new Group()).add(member);
+			}
+			snapshots.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	void remove(long id) {
+		lock.writeLock().lock();
+		try {
+			if (removeMember(id)) {
+				snapshots.clear();
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private boolean removeMember(long id) {
+		Member previous = members.remove(id);
+		if (previous == null) {
+			return false;
+		}
+		removeFrom(countries, previous.countryGroup(), previous);
+		removeFrom(provinces, previous.provinceGroup(), previous);
+		return true;
+	}
+
+	private static void removeFrom(Map<GroupKey, Group> groups, GroupKey key, Member member) {
+		Group group = groups.get(key);
+		if (group != null && group.remove(member)) {
+			groups.remove(key);
+		}
+	}
+
+	private List<SalaryStats> compute(GroupBy groupBy) {
+		Map<GroupKey, Group> groups = groupBy == GroupBy.COUNTRY ? countries : provinces;
+		return groups.entrySet().stream()
+				.sorted(Map.Entry.comparingByKey(GROUP_ORDER))
+				.map(entry -> entry.getValue().toStats(entry.getKey()))
+				.toList();
+	}
+
+	private record GroupKey(String countryKey, String province) {
+	}
+
+	private record Member(String countryKey, String country, String province, BigDecimal salary) {
+
+		GroupKey countryGroup() {
+			return new GroupKey(countryKey, null);
+		}
+
+		GroupKey provinceGroup() {
+			return new GroupKey(countryKey, province);
+		}
+	}
+
+	private static class Group {
+
+		private long count;
+		private BigDecimal sum = BigDecimal.ZERO;
+		// salary -> number of employees earning it, in ascending order
+		private final TreeMap<BigDecimal, Long> salaries = new TreeMap<>();
+		// spelling of the country -> number of members using it
+		private final TreeMap<String, Long> countries = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+
+		void add(Member member) {
+			count++;
+			sum = sum.add(member.salary());
+			salaries.merge(member.salary(), 1L, Long::sum);
+			countries.merge(member.country(), 1L, Long::sum);
+		}
+
+		// Returns true when the group is now empty
+		boolean remove(Member member) {
+			count--;
+			sum = sum.subtract(member.salary());
+			salaries.computeIfPresent(member.salary(), (key, n) -> n == 1 ? null : n - 1);
+			countries.computeIfPresent(member.country(), (key, n) -> n == 1 ? null : n - 1);
+			return count == 0;
+		}
+
+		SalaryStats toStats(GroupKey key) {
+			BigDecimal mean = sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL128);
+			return new SalaryStats(countries.firstKey(), key.province(), count, sum, mean, salaries.firstKey(),
+					salaries.lastKey(), percentile(50), percentile(95));
+		}
+
+		// Nearest-rank percentile: the smallest salary with at least p% of the
+		// group at or below it.
+		private BigDecimal percentile(int p) {
+			long rank = Math.max(1, (count * p + 99) / 100);
+			long seen = 0;
+			for (Map.Entry<BigDecimal, Long> entry : salaries.entrySet()) {
+				seen += entry.getValue();
+				if (seen >= rank) {
+					return entry.getKey();
+				}
+			}
+			return salaries.lastKey();
+		}
+	}
+
+}
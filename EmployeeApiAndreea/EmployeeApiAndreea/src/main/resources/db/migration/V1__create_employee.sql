@@ -0,0 +1,20 @@
+-- Employee table as mapped by com.fdmgroup.EmployeeApiAndreea.model.Employee.
+-- The id sequence steps by 50 to match the entity's allocationSize.
+create sequence EMPLOYEE_ID_SEQ start with 1 increment by 50;
+
+create table Employee (
+	id bigint not null,
+	firstName varchar(255),
+	lastName varchar(255),
+	salary numeric(38,2),
+	province varchar(255),
+	country varchar(255),
+	countryKey varchar(255),
+	version bigint,
+	primary key (id)
+);
+
+-- Each index ends with id so keyset pages seek on it without a sort
+create index IDX_EMPLOYEE_COUNTRY_KEY on Employee (countryKey, id);
+create index IDX_EMPLOYEE_LAST_NAME on Employee (lastName, id);
+create index IDX_EMPLOYEE_FIRST_NAME on Employee (firstName, id);
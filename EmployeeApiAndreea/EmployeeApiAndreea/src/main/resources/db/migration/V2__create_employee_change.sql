@@ -0,0 +1,20 @@
+-- Change log (transactional outbox) as mapped by com.fdmgroup.EmployeeApiAndreea.model.EmployeeChange.
+-- Rows are keyed by their offset in the change feed.
+create table EmployeeChange (
+	position bigint not null,
+	type varchar(255) check (type in ('CREATED','UPDATED','DELETED')),
+	employeeId bigint not null,
+	version bigint,
+	occurredAt timestamp(6) with time zone,
+	employee varchar(4000),
+	primary key (position)
+);
+
+-- Single row holding the last offset handed out, see EmployeeChangeSequence
+create table EmployeeChangeSequence (
+	id integer not null,
+	lastPosition bigint not null,
+	primary key (id)
+);
+
+insert into EmployeeChangeSequence (id, lastPosition) values (1, 0);
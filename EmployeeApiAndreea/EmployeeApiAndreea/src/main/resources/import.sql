@@ -1,5 +1,8 @@
-insert into Employee(id, firstName, lastName, salary, province, country) values (nextval('EMPLOYEE_ID_SEQ'), 'Ioana', 'Popescu', 50.000, 'Bedfordshire', 'England' );
-insert into Employee(id, firstName, lastName, salary, province, country) values (nextval('EMPLOYEE_ID_SEQ'), 'Daniela', 'Anastasei', 250.000, 'Oxfordshire', 'England' );
-insert into Employee(id, firstName, lastName, salary, province, country) values (nextval('EMPLOYEE_ID_SEQ'), 'Damian', 'Dascalu', 75.000, 'Bedfordshire', 'England' );
-insert into Employee(id, firstName, lastName, salary, province, country) values (nextval('EMPLOYEE_ID_SEQ'), 'Diana', 'Popovic', 76.000, 'Anothershre', 'England' );
-insert into Employee(id, firstName, lastName, salary, province, country) values (nextval('EMPLOYEE_ID_SEQ'), 'Samwise', 'Gamgee', 85.000, 'Theshire', 'Middle-earth' );
\ No newline at end of file
+insert into Employee(id, firstName, lastName, salary, province, country, countryKey, version) values (1, 'Ioana', 'Popescu', 50.000, 'Bedfordshire', 'England', 'ENGLAND', 0 );
+insert into Employee(id, firstName, lastName, salary, province, country, countryKey, version) values (2, 'Daniela', 'Anastasei', 250.000, 'Oxfordshire', 'England', 'ENGLAND', 0 );
+insert into Employee(id, firstName, lastName, salary, province, country, countryKey, version) values (3, 'Damian', 'Dascalu', 75.000, 'Bedfordshire', 'England', 'ENGLAND', 0 );
+insert into Employee(id, firstName, lastName, salary, province, country, countryKey, version) values (4, 'Diana', 'Popovic', 76.000, 'Anothershre', 'England', 'ENGLAND', 0 );
+insert into Employee(id, firstName, lastName, salary, province, country, countryKey, version) values (5, 'Samwise', 'Gamgee', 85.000, 'Theshire', 'Middle-earth', 'MIDDLE-EARTH', 0 );
+-- Hibernate hands out ids in blocks of 50 ending at the sequence value, so new employees start at 6
+alter sequence EMPLOYEE_ID_SEQ restart with 55;
+insert into EmployeeChangeSequence(id, lastPosition) values (1, 0);
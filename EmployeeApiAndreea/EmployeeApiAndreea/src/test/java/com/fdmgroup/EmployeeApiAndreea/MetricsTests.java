@@ -0,0 +1,57 @@
+package com.fdmgroup.EmployeeApiAndreea;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Checks that a request is measured per endpoint, per service method, in
+ * Hibernate statements and in the caches, and that the meters are published at
+ * {@code /actuator/prometheus}.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:metrics-tests" })
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void requestsAreMeasuredAndPublished() throws Exception {
+		mockMvc.perform(get("/api/v1/employees/1")).andExpect(status().isOk());
+
+		assertNotNull(meterRegistry.find("http.server.requests").tag("uri", "/api/v1/employees/{id}")
+				.tag("status", "200").timer());
+		assertNotNull(meterRegistry.find("employee.service").tag("class", EmployeeService.class.getName())
+				.tag("method", "findById").timer());
+		assertNotNull(meterRegistry.find("hibernate.statements").functionCounter());
+		assertNotNull(meterRegistry.find("cache.gets").tag("cache", "employee").functionCounter());
+
+		String scrape = mockMvc.perform(get("/actuator/prometheus"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		for (String name : new String[] { "http_server_requests_seconds_bucket", "employee_service_seconds_bucket",
+				"employee_service_seconds{", "hibernate_statements_total", "cache_gets_total" }) {
+			assertTrue(scrape.contains(name), name);
+		}
+		assertTrue(scrape.contains("method=\"findById\""), "findById timer");
+	}
+
+}
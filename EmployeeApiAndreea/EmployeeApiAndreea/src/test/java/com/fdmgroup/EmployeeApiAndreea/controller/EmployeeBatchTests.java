@@ -0,0 +1,65 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.EMPLOYEES;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.employee;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.json;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.with;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Checks the per-item results of the batch create, update and delete
+ * endpoints.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:batch-tests" })
+@AutoConfigureMockMvc
+class EmployeeBatchTests {
+
+	private static final String BATCH = EMPLOYEES + "/batch";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void batchWritesReportEveryItem() throws Exception {
+		String created = mockMvc.perform(json(post(BATCH), "[" + employee("Lotescu")
+				+ ",{\"firstName\":\"X\",\"lastName\":\"Lotescu\"}]"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[*].status", contains("CREATED", "INVALID")))
+				.andExpect(jsonPath("$[1].errors").isNotEmpty())
+				.andReturn().getResponse().getContentAsString();
+		long id = ((Number) JsonPath.read(created, "$[0].id")).longValue();
+
+		mockMvc.perform(json(put(BATCH), "[" + with(employee("Lotescu"), "\"id\":" + id + ",\"version\":0")
+				+ "," + with(employee("Lotescu"), "\"id\":" + id + ",\"version\":7")
+				+ "," + with(employee("Lotescu"), "\"id\":999999") + "]"))
+				.andExpect(jsonPath("$[*].status", contains("UPDATED", "CONFLICT", "NOT_FOUND")));
+
+		mockMvc.perform(json(delete(BATCH), "[" + id + ",999999]"))
+				.andExpect(jsonPath("$[*].status", contains("DELETED", "NOT_FOUND")));
+		mockMvc.perform(get(EMPLOYEES + "/" + id)).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void batchDeleteRejectsMissingOrNonPositiveIds() throws Exception {
+		mockMvc.perform(json(delete(BATCH), "[1,null]")).andExpect(status().isBadRequest());
+		mockMvc.perform(json(delete(BATCH), "[0]")).andExpect(status().isBadRequest());
+		mockMvc.perform(json(delete(BATCH), "[-3]")).andExpect(status().isBadRequest());
+		mockMvc.perform(get(EMPLOYEES + "/1")).andExpect(status().isOk());
+	}
+
+}
@@ -0,0 +1,196 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.fdmgroup.EmployeeApiAndreea.repository.EmployeeChangeRepository;
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeChangeLog;
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeService;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Checks the change feed at {@code /api/v1/employees/changes}, as NDJSON and
+ * as server-sent events. Every test reads the changes after the last offset
+ * logged when it starts, so it only sees its own writes.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:change-feed-tests",
+		"employee.changes.poll-interval=50ms" })
+@AutoConfigureMockMvc
+class EmployeeChangeFeedTests {
+
+	private static final String EMPLOYEES = "/api/v1/employees";
+	private static final String CHANGES = EMPLOYEES + "/changes";
+	private static final String EMPLOYEE_JSON = "{\"firstName\":\"Ioana\",\"lastName\":\"Popescu\",\"salary\":50000,"
+			+ "\"province\":\"Bedfordshire\",\"country\":\"England\"}";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private EmployeeChangeLog changeLog;
+
+	@Autowired
+	private EmployeeChangeRepository changeRepo;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void changesComeInOffsetOrderWithTheStoredVersions() throws Exception {
+		long since = changeLog.lastPosition();
+		long id = create();
+		mockMvc.perform(put(EMPLOYEES + "/" + id).contentType(MediaType.APPLICATION_JSON).content(EMPLOYEE_JSON))
+				.andExpect(status().isOk());
+		mockMvc.perform(delete(EMPLOYEES + "/" + id)).andExpect(status().isOk());
+
+		MvcResult result = changes(get(CHANGES).param("since", Long.toString(since)))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+				.andExpect(header().string("X-Next-Cursor", Long.toString(since + 3)))
+				.andReturn();
+		List<JsonNode> changes = lines(result);
+		assertEquals(3, changes.size());
+		assertChange(changes.get(0), since + 1, "CREATED", id, 0);
+		assertChange(changes.get(1), since + 2, "UPDATED", id, 1);
+		assertEquals(1, changes.get(1).get("employee").get("version").asLong());
+		assertChange(changes.get(2), since + 3, "DELETED", id, -1);
+		assertTrue(changes.get(2).get("employee").isNull());
+	}
+
+	@Test
+	void limitedPageEndsAtTheLastChangeReturned() throws Exception {
+		long since = changeLog.lastPosition();
+		create();
+		create();
+		MvcResult result = changes(get(CHANGES).param("since", Long.toString(since)).param("limit", "1"))
+				.andExpect(header().string("X-Next-Cursor", Long.toString(since + 1)))
+				.andReturn();
+		assertEquals(1, lines(result).size());
+	}
+
+	@Test
+	void rolledBackTransactionLogsNothing() throws Exception {
+		long since = changeLog.lastPosition();
+		new TransactionTemplate(transactionManager).executeWithoutResult(transaction -> {
+			employeeService.addEmployee(new Employee(0, "Ioana", "Popescu", new BigDecimal("50000"), "Bedfordshire",
+					"England"));
+			transaction.setRollbackOnly();
+		});
+		assertEquals(since, changeLog.lastPosition());
+		MvcResult result = changes(get(CHANGES).param("since", Long.toString(since)))
+				.andExpect(status().isOk())
+				.andExpect(header().string("X-Next-Cursor", Long.toString(since)))
+				.andReturn();
+		assertEquals(List.of(), lines(result));
+	}
+
+	@Test
+	void prunedChangesAreGone() throws Exception {
+		long since = changeLog.lastPosition();
+		create();
+		create();
+		changeRepo.deleteById(since + 1);
+		mockMvc.perform(get(CHANGES).param("since", Long.toString(since)))
+				.andExpect(status().isGone());
+		mockMvc.perform(get(CHANGES).param("since", Long.toString(since)).accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(status().isGone());
+		// Consumers that have seen the pruned change can still go on
+		changes(get(CHANGES).param("since", Long.toString(since + 1)))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void eventStreamSendsTheChangesWithTheirOffsetsAsIds() throws Exception {
+		long since = changeLog.lastPosition();
+		long id = create();
+		MvcResult result = mockMvc.perform(get(CHANGES).param("since", Long.toString(since))
+				.accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		mockMvc.perform(delete(EMPLOYEES + "/" + id)).andExpect(status().isOk());
+
+		String stream = awaitContaining(result, "id:" + (since + 2));
+		assertTrue(stream.indexOf("id:" + (since + 1)) < stream.indexOf("id:" + (since + 2)), stream);
+		assertTrue(stream.contains("\"type\":\"CREATED\""), stream);
+		assertTrue(stream.contains("\"type\":\"DELETED\""), stream);
+	}
+
+	private long create() throws Exception {
+		String body = mockMvc.perform(post(EMPLOYEES).contentType(MediaType.APPLICATION_JSON).content(EMPLOYEE_JSON))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+		return ((Number) JsonPath.read(body, "$.id")).longValue();
+	}
+
+	// The NDJSON body is streamed once the request has gone async
+	private ResultActions changes(MockHttpServletRequestBuilder changesRequest) throws Exception {
+		MvcResult result = mockMvc.perform(changesRequest).andExpect(request().asyncStarted()).andReturn();
+		return mockMvc.perform(asyncDispatch(result));
+	}
+
+	private List<JsonNode> lines(MvcResult result) throws Exception {
+		List<JsonNode> lines = new ArrayList<>();
+		for (String line : result.getResponse().getContentAsString().split("\n")) {
+			if (!line.isBlank()) {
+				lines.add(objectMapper.readTree(line));
+			}
+		}
+		return lines;
+	}
+
+	private static void assertChange(JsonNode change, long offset, String type, long employeeId, long version) {
+		assertEquals(offset, change.get("offset").asLong());
+		assertEquals(type, change.get("type").asText());
+		assertEquals(employeeId, change.get("employeeId").asLong());
+		if (version >= 0) {
+			assertEquals(version, change.get("version").asLong());
+		}
+	}
+
+	private static String awaitContaining(MvcResult result, String text) throws Exception {
+		long deadline = System.currentTimeMillis() + 5000;
+		String stream = result.getResponse().getContentAsString();
+		while (!stream.contains(text) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+			stream = result.getResponse().getContentAsString();
+		}
+		assertTrue(stream.contains(text), stream);
+		return stream;
+	}
+
+}
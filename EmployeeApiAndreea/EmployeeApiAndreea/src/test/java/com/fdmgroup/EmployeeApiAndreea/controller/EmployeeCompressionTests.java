@@ -0,0 +1,76 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.EMPLOYEES;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Checks over a real connection that large JSON responses are gzipped for
+ * callers accepting it, and carry a weak ETag, which Tomcat compresses.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:compression-tests" })
+class EmployeeCompressionTests {
+
+	private final HttpClient client = HttpClient.newHttpClient();
+
+	@LocalServerPort
+	private int port;
+
+	@Test
+	void largeListIsGzippedWithAWeakETag() throws Exception {
+		List<String> employees = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			employees.add(employee("Compressed" + i));
+		}
+		HttpResponse<String> created = client.send(HttpRequest.newBuilder(uri(EMPLOYEES + "/batch"))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(employees.toString()))
+				.build(), HttpResponse.BodyHandlers.ofString());
+		assertEquals(200, created.statusCode(), created.body());
+
+		HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri(EMPLOYEES))
+				.header("Accept", "application/json")
+				.header("Accept-Encoding", "gzip")
+				.build(), HttpResponse.BodyHandlers.ofByteArray());
+
+		assertEquals(200, response.statusCode());
+		assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+		assertTrue(response.headers().firstValue("ETag").orElseThrow().startsWith("W/"));
+		String body = gunzip(response.body());
+		List<Object> ids = JsonPath.read(body, "$[*].id");
+		assertEquals(45, ids.size());
+		assertTrue(response.body().length < body.length() / 2, "compressed to " + response.body().length);
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	private static String gunzip(byte[] body) throws IOException {
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+}
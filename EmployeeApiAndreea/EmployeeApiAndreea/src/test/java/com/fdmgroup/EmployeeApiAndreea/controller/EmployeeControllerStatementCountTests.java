@@ -0,0 +1,101 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counts the JDBC statements each write endpoint prepares, using Hibernate
+ * statistics. Every test works on its own seeded employee. A successful write
+ * also reserves an offset for its change, which is an update and a read of the
+ * sequence row, and inserts the change into the change log. A PUT reads the new
+ * version back by primary key after its UPDATE, so its change carries the
+ * stored version.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		// keeps the change relay's own queries out of the counts
+		"employee.changes.poll-interval=1h" })
+@AutoConfigureMockMvc
+class EmployeeControllerStatementCountTests {
+
+	private static final String EMPLOYEE_JSON = "{\"firstName\":\"Ioana\",\"lastName\":\"Popescu\",\"salary\":50000,"
+			+ "\"province\":\"Bedfordshire\",\"country\":\"England\"%s}";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void deleteIssuesOneStatementAndLogsTheChange() throws Exception {
+		assertStatements(4, delete("/api/v1/employees/5"), status().isOk());
+	}
+
+	@Test
+	void deleteOfMissingEmployeeIssuesOneStatement() throws Exception {
+		assertStatements(1, delete("/api/v1/employees/999999"), status().isNotFound());
+	}
+
+	@Test
+	void versionedPutUpdatesThenReadsTheVersionAndLogsTheChange() throws Exception {
+		assertStatements(5, json(put("/api/v1/employees/1"), ",\"version\":0"), status().isOk());
+	}
+
+	@Test
+	void unversionedPutUpdatesThenReadsTheVersionAndLogsTheChange() throws Exception {
+		assertStatements(5, json(put("/api/v1/employees/2"), ""), status().isOk());
+	}
+
+	@Test
+	void putOfMissingEmployeeIssuesOneStatement() throws Exception {
+		assertStatements(1, json(put("/api/v1/employees/999999"), ""), status().isNotFound());
+	}
+
+	@Test
+	void stalePutChecksExistenceOnlyAfterFailing() throws Exception {
+		assertStatements(2, json(put("/api/v1/employees/4"), ",\"version\":42"), status().isConflict());
+	}
+
+	@Test
+	void patchUpdatesThenReadsBackAndLogsTheChange() throws Exception {
+		assertStatements(5, patch("/api/v1/employees/3").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"salary\":60000,\"version\":0}"), status().isOk());
+	}
+
+	private static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String version) {
+		return request.contentType(MediaType.APPLICATION_JSON).content(EMPLOYEE_JSON.formatted(version));
+	}
+
+	private void assertStatements(long expected, MockHttpServletRequestBuilder request, ResultMatcher status)
+			throws Exception {
+		statistics.clear();
+		mockMvc.perform(request).andExpect(status);
+		assertEquals(expected, statistics.getPrepareStatementCount());
+	}
+
+}
@@ -0,0 +1,147 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fdmgroup.EmployeeApiAndreea.repository.EmployeeChangeRepository;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Checks the responses of the employee endpoints. Every test creates the
+ * employees it changes, in a database of its own, so the seeded employees stay
+ * as imported.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:controller-tests" })
+@AutoConfigureMockMvc
+class EmployeeControllerTests {
+
+	private static final String EMPLOYEES = "/api/v1/employees";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EmployeeChangeRepository changeRepo;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void seededEmployeesAreFollowedByNewOnes() throws Exception {
+		mockMvc.perform(get(EMPLOYEES).param("limit", "5"))
+				.andExpect(jsonPath("$[*].id", contains(1, 2, 3, 4, 5)));
+		long id = create("Popescu");
+		assertTrue(id > 5 && id <= 55, "id " + id);
+	}
+
+	@Test
+	void unversionedPutReturnsTheVersionAssignedByTheDatabase() throws Exception {
+		long id = create("Popescu");
+		mockMvc.perform(json(put(EMPLOYEES + "/" + id), employee("Ionescu", "")))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id").value(id))
+				.andExpect(jsonPath("$.lastName").value("Ionescu"))
+				.andExpect(jsonPath("$.version").value(1));
+		mockMvc.perform(json(put(EMPLOYEES + "/" + id), employee("Georgescu", "")))
+				.andExpect(jsonPath("$.version").value(2));
+		mockMvc.perform(get(EMPLOYEES + "/" + id))
+				.andExpect(jsonPath("$.lastName").value("Georgescu"))
+				.andExpect(jsonPath("$.version").value(2));
+	}
+
+	@Test
+	void versionedPutReturnsTheNextVersion() throws Exception {
+		long id = create("Popescu");
+		mockMvc.perform(json(put(EMPLOYEES + "/" + id), employee("Ionescu", ",\"version\":0")))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.version").value(1));
+	}
+
+	@Test
+	void listIsNotModifiedUntilAnEmployeeChanges() throws Exception {
+		String etag = mockMvc.perform(get(EMPLOYEES)).andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		mockMvc.perform(get(EMPLOYEES).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+		mockMvc.perform(get(EMPLOYEES).param("limit", "2").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+
+		create("Popescu");
+		String newEtag = mockMvc.perform(get(EMPLOYEES).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertNotEquals(etag, newEtag);
+		mockMvc.perform(get(EMPLOYEES).header(HttpHeaders.IF_NONE_MATCH, newEtag))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void changeByAnotherInstanceIsNotAnsweredFromTheCache() throws Exception {
+		long id = create("Popescu");
+		String etag = mockMvc.perform(get(EMPLOYEES + "/" + id))
+				.andExpect(jsonPath("$.lastName").value("Popescu"))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		// What another instance sharing the database would commit
+		new TransactionTemplate(transactionManager).executeWithoutResult(transaction -> {
+			jdbcTemplate.update("update Employee set lastName = 'Ionescu', version = version + 1 where id = ?", id);
+			long position = changeRepo.reservePositions(1);
+			jdbcTemplate.update("insert into EmployeeChange (position, type, employeeId, version, occurredAt)"
+					+ " values (?, 'UPDATED', ?, 1, ?)", position, id, Timestamp.from(Instant.now()));
+		});
+
+		mockMvc.perform(get(EMPLOYEES + "/" + id).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+				.andExpect(jsonPath("$.lastName").value("Ionescu"))
+				.andExpect(jsonPath("$.version").value(1));
+	}
+
+	private long create(String lastName) throws Exception {
+		return createFrom(employee(lastName, ""));
+	}
+
+	private long createFrom(String employee) throws Exception {
+		String body = mockMvc.perform(json(post(EMPLOYEES), employee))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+		return ((Number) JsonPath.read(body, "$.id")).longValue();
+	}
+
+	private static String employee(String lastName, String version) {
+		return ("{\"firstName\":\"Ioana\",\"lastName\":\"%s\",\"salary\":50000,"
+				+ "\"province\":\"Bedfordshire\",\"country\":\"England\"%s}").formatted(lastName, version);
+	}
+
+	private static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String body) {
+		return request.contentType(MediaType.APPLICATION_JSON).content(body);
+	}
+
+}
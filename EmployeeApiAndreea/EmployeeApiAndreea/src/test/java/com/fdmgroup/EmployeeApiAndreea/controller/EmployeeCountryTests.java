@@ -0,0 +1,62 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.EMPLOYEES;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.create;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.employee;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.json;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Checks the keyset pages of {@code GET /api/v1/employees/country/{country}}.
+ * Each test uses a country of its own.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:country-tests" })
+@AutoConfigureMockMvc
+class EmployeeCountryTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void countryPagesIgnoreCaseAndCanBeSummaries() throws Exception {
+		long first = create(mockMvc, employee("Summarescu", "North", "Summaryland", 30000));
+		long second = create(mockMvc, employee("Summarescu", "North", "Summaryland", 30000));
+		long third = create(mockMvc, employee("Summarescu", "North", " summaryLand ", 30000));
+		mockMvc.perform(get(EMPLOYEES + "/country/SUMMARYLAND").param("limit", "2").param("view", "summary"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[*].id", contains((int) first, (int) second)))
+				.andExpect(jsonPath("$[0].lastName").value("Summarescu"))
+				.andExpect(jsonPath("$[0].salary").doesNotExist())
+				.andExpect(header().string(EmployeeController.NEXT_CURSOR_HEADER, Long.toString(second)));
+		mockMvc.perform(get(EMPLOYEES + "/country/summaryland").param("limit", "2")
+				.param("after", Long.toString(second)))
+				.andExpect(jsonPath("$[*].id", contains((int) third)))
+				.andExpect(jsonPath("$[0].salary").value(30000.0))
+				.andExpect(header().doesNotExist(EmployeeController.NEXT_CURSOR_HEADER));
+	}
+
+	@Test
+	void employeeMovesCountryWhenItsCountryIsChanged() throws Exception {
+		long id = create(mockMvc, employee("Movescu", "North", "Fromland", 30000));
+		mockMvc.perform(json(patch(EMPLOYEES + "/" + id), "{\"country\":\"Toland\"}"))
+				.andExpect(status().isOk());
+
+		mockMvc.perform(get(EMPLOYEES + "/country/fromland"))
+				.andExpect(jsonPath("$").isEmpty());
+		mockMvc.perform(get(EMPLOYEES + "/country/TOLAND"))
+				.andExpect(jsonPath("$[*].id", contains((int) id)));
+	}
+
+}
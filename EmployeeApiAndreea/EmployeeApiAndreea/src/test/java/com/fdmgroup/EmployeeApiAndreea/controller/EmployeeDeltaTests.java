@@ -0,0 +1,96 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.EMPLOYEES;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.create;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.employee;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.json;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Checks the deltas of {@code GET /api/v1/employees?modifiedSince}: every
+ * employee for token 0 or when the client is too far behind, and otherwise
+ * only what changed since the token.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:delta-tests",
+		"employee.changes.max-delta=5" })
+@AutoConfigureMockMvc
+class EmployeeDeltaTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void tokenZeroReturnsEveryEmployee() throws Exception {
+		delta(0)
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+				.andExpect(jsonPath("$.full").value(true))
+				.andExpect(jsonPath("$.employees[0:5].lastName",
+						contains("Popescu", "Anastasei", "Dascalu", "Popovic", "Gamgee")))
+				.andExpect(jsonPath("$.deleted", empty()));
+	}
+
+	@Test
+	void deltaHoldsTheLatestStateOfEachChangedEmployee() throws Exception {
+		long token = token(delta(0));
+		long updated = create(mockMvc, employee("Deltescu"));
+		mockMvc.perform(json(put(EMPLOYEES + "/" + updated), employee("Deltanu")))
+				.andExpect(status().isOk());
+		long deleted = create(mockMvc, employee("Deltescu"));
+		mockMvc.perform(delete(EMPLOYEES + "/" + deleted))
+				.andExpect(status().isOk());
+
+		ResultActions delta = delta(token)
+				.andExpect(jsonPath("$.full").value(false))
+				.andExpect(jsonPath("$.employees[*].id", contains((int) updated)))
+				.andExpect(jsonPath("$.employees[0].lastName").value("Deltanu"))
+				.andExpect(jsonPath("$.deleted", contains((int) deleted)));
+		long next = token(delta);
+		assertTrue(next > token, "token " + next + " after " + token);
+
+		delta(next)
+				.andExpect(jsonPath("$.full").value(false))
+				.andExpect(jsonPath("$.token").value(next))
+				.andExpect(jsonPath("$.employees", empty()))
+				.andExpect(jsonPath("$.deleted", empty()));
+	}
+
+	@Test
+	void clientTooFarBehindGetsEveryEmployee() throws Exception {
+		long token = token(delta(0));
+		for (int i = 0; i < 6; i++) {
+			create(mockMvc, employee("Deltescu"));
+		}
+
+		delta(token).andExpect(jsonPath("$.full").value(true));
+		delta(Long.MAX_VALUE).andExpect(jsonPath("$.full").value(true));
+	}
+
+	private ResultActions delta(long modifiedSince) throws Exception {
+		return mockMvc.perform(get(EMPLOYEES).param("modifiedSince", String.valueOf(modifiedSince)));
+	}
+
+	private static long token(ResultActions delta) throws Exception {
+		return ((Number) JsonPath.read(delta.andReturn().getResponse().getContentAsString(), "$.token")).longValue();
+	}
+
+}
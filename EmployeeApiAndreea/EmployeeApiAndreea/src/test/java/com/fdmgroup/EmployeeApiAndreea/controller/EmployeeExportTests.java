@@ -0,0 +1,98 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.EMPLOYEES;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.create;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.employee;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Checks the CSV and NDJSON exports of all employees, plain and gzipped.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:export-tests" })
+@AutoConfigureMockMvc
+class EmployeeExportTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void csvHasAHeaderAndEveryEmployeeInIdOrder() throws Exception {
+		long id = create(mockMvc, employee("Exportescu"));
+
+		String[] lines = export("csv", false).getContentAsString().split("\r\n");
+
+		assertEquals("id,firstName,lastName,salary,province,country,version", lines[0]);
+		assertTrue(lines[1].startsWith("1,Ioana,Popescu,"), lines[1]);
+		assertEquals(id + ",Ioana,Exportescu,50000.00,Bedfordshire,England,0", lines[lines.length - 1]);
+	}
+
+	@Test
+	void ndjsonHasOneEmployeePerLine() throws Exception {
+		long id = create(mockMvc, employee("Exportescu"));
+
+		String[] lines = export("ndjson", false).getContentAsString().split("\n");
+
+		List<Long> ids = Arrays.stream(lines).map(line -> ((Number) JsonPath.read(line, "$.id")).longValue()).toList();
+		assertEquals(ids.stream().sorted().toList(), ids);
+		assertEquals("Exportescu", JsonPath.read(lines[lines.length - 1], "$.lastName"));
+		assertEquals(id, ids.get(ids.size() - 1));
+	}
+
+	@Test
+	void gzippedExportHoldsTheSameRows() throws Exception {
+		String plain = export("csv", false).getContentAsString();
+
+		MockHttpServletResponse gzipped = export("csv", true);
+
+		assertEquals("gzip", gzipped.getHeader(HttpHeaders.CONTENT_ENCODING));
+		try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+			assertEquals(plain, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	void unknownFormatIsRejected() throws Exception {
+		mockMvc.perform(get(EMPLOYEES + "/export").param("format", "xml"))
+				.andExpect(status().isBadRequest())
+				.andExpect(content().string(containsString("xml")));
+	}
+
+	private MockHttpServletResponse export(String format, boolean gzip) throws Exception {
+		MvcResult result = mockMvc.perform(get(EMPLOYEES + "/export").param("format", format)
+				.param("gzip", String.valueOf(gzip)))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		return mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("employees." + format)))
+				.andReturn().getResponse();
+	}
+
+}
@@ -0,0 +1,98 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.EMPLOYEES;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Checks the CSV and NDJSON imports. Chunks hold three rows, so most uploads
+ * are written in several transactions.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:import-tests",
+		"employee.import.chunk-size=3" })
+@AutoConfigureMockMvc
+class EmployeeImportTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void validCsvRowsAreCreatedAndInvalidOnesReported() throws Exception {
+		String csv = "firstName,lastName,salary,province,country\n"
+				+ "Ioana,Importescu,50000,Kent,Importland\n"
+				+ "X,Importescu,1,Kent,Importland\n";
+		mockMvc.perform(post(EMPLOYEES + "/import").contentType("text/csv").content(csv))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.rows").value(2))
+				.andExpect(jsonPath("$.created").value(1))
+				.andExpect(jsonPath("$.invalid").value(1))
+				.andExpect(jsonPath("$.errors[0].index").value(2));
+
+		mockMvc.perform(get(EMPLOYEES + "/search-employees").param("searchTerm", "Importescu"))
+				.andExpect(jsonPath("$[*].country", contains("Importland")));
+	}
+
+	@Test
+	void quotedCsvFieldsAndUnknownColumnsAreRead() throws Exception {
+		String csv = "id,firstName,lastName,salary,province,country,nickname,version\n"
+				+ "99,Ioana,Quotescu,50000,\"Kent, East\",England,\"the \"\"quoted\"\" one\",7\n";
+		mockMvc.perform(post(EMPLOYEES + "/import").contentType("text/csv").content(csv))
+				.andExpect(jsonPath("$.created").value(1));
+
+		mockMvc.perform(get(EMPLOYEES + "/search-employees").param("searchTerm", "Quotescu"))
+				.andExpect(jsonPath("$[0].province").value("Kent, East"))
+				.andExpect(jsonPath("$[0].version").value(0));
+	}
+
+	@Test
+	void ndjsonRowsAreImportedAcrossChunksInUploadOrder() throws Exception {
+		StringBuilder ndjson = new StringBuilder();
+		for (int i = 1; i <= 10; i++) {
+			int salary = i == 7 ? 1 : 50000;
+			ndjson.append(("{\"firstName\":\"Ioana\",\"lastName\":\"Chunkescu%02d\",\"salary\":%d,"
+					+ "\"province\":\"Kent\",\"country\":\"England\"}\n").formatted(i, salary));
+		}
+		mockMvc.perform(post(EMPLOYEES + "/import").contentType(MediaType.APPLICATION_NDJSON)
+				.content(ndjson.toString()))
+				.andExpect(jsonPath("$.rows").value(10))
+				.andExpect(jsonPath("$.created").value(9))
+				.andExpect(jsonPath("$.errors[*].index", contains(7)));
+
+		mockMvc.perform(get(EMPLOYEES + "/search-employees").param("searchTerm", "Chunkescu"))
+				.andExpect(jsonPath("$", hasSize(9)))
+				.andExpect(jsonPath("$[0].lastName").value("Chunkescu01"))
+				.andExpect(jsonPath("$[8].lastName").value("Chunkescu10"));
+	}
+
+	@Test
+	void gzippedUploadIsImported() throws Exception {
+		String csv = "firstName,lastName,salary,province,country\n"
+				+ "Ioana,Gzipescu,50000,Kent,England\n";
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream out = new GZIPOutputStream(bytes)) {
+			out.write(csv.getBytes(StandardCharsets.UTF_8));
+		}
+		mockMvc.perform(post(EMPLOYEES + "/import").contentType("text/csv")
+				.header(HttpHeaders.CONTENT_ENCODING, "gzip").content(bytes.toByteArray()))
+				.andExpect(jsonPath("$.created").value(1));
+	}
+
+}
@@ -0,0 +1,137 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.EMPLOYEES;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.create;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.employee;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeService;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Checks the keyset pages of {@code GET /api/v1/employees}, in either order
+ * and from either cursor, and the NDJSON stream of all employees. The seeded employees have IDs 1 to 5; tests only
+ * add employees after them.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:paging-tests" })
+@AutoConfigureMockMvc
+class EmployeePagingTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Test
+	void pagesFollowTheIdsAfterTheCursor() throws Exception {
+		mockMvc.perform(get(EMPLOYEES).param("limit", "2"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[*].id", contains(1, 2)))
+				.andExpect(header().string(EmployeeController.NEXT_CURSOR_HEADER, "2"));
+		mockMvc.perform(get(EMPLOYEES).param("limit", "2").param("after", "2"))
+				.andExpect(jsonPath("$[*].id", contains(3, 4)))
+				.andExpect(header().string(EmployeeController.NEXT_CURSOR_HEADER, "4"));
+	}
+
+	@Test
+	void pagesCarryTheCursorsOfTheirNeighbours() throws Exception {
+		mockMvc.perform(get(EMPLOYEES).param("limit", "2"))
+				.andExpect(header().doesNotExist(EmployeeController.PREV_CURSOR_HEADER));
+		mockMvc.perform(get(EMPLOYEES).param("limit", "2").param("after", "2"))
+				.andExpect(header().string(EmployeeController.PREV_CURSOR_HEADER, "3"));
+		mockMvc.perform(get(EMPLOYEES).param("limit", "2").param("before", "3"))
+				.andExpect(jsonPath("$[*].id", contains(1, 2)));
+
+		String next = mockMvc.perform(get(EMPLOYEES).param("sort", "lastName").param("limit", "2"))
+				.andExpect(jsonPath("$[*].lastName", contains("Anastasei", "Dascalu")))
+				.andReturn().getResponse().getHeader(EmployeeController.NEXT_CURSOR_HEADER);
+		assertEquals("3:Dascalu", new String(Base64.getUrlDecoder().decode(next), StandardCharsets.UTF_8));
+		mockMvc.perform(get(EMPLOYEES).param("sort", "lastName").param("limit", "1").param("after", next))
+				.andExpect(jsonPath("$[*].lastName", contains("Gamgee")));
+	}
+
+	@Test
+	void badSortOrCursorIsRejected() throws Exception {
+		mockMvc.perform(get(EMPLOYEES).param("sort", "salary")).andExpect(status().isBadRequest());
+		mockMvc.perform(get(EMPLOYEES).param("after", "abc")).andExpect(status().isBadRequest());
+		mockMvc.perform(get(EMPLOYEES).param("sort", "lastName").param("after", "not-a-cursor"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get(EMPLOYEES).param("after", "1").param("before", "3"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void listWithoutParametersIsTheFirstPageOfTheDefaultSize() throws Exception {
+		employeeService.addEmployees(IntStream.range(0, 120)
+				.mapToObj(i -> new Employee(0, "Ioana", "Popescu", new BigDecimal("50000"), "Kent", "England"))
+				.toList());
+
+		String body = mockMvc.perform(get(EMPLOYEES))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$", hasSize(100)))
+				.andExpect(jsonPath("$[0].id").value(1))
+				.andReturn().getResponse().getContentAsString();
+		List<Integer> ids = JsonPath.read(body, "$[*].id");
+		mockMvc.perform(get(EMPLOYEES))
+				.andExpect(header().string(EmployeeController.NEXT_CURSOR_HEADER, ids.get(99).toString()));
+		mockMvc.perform(get(EMPLOYEES).param("limit", "5000"))
+				.andExpect(jsonPath("$.length()").value(greaterThanOrEqualTo(125)));
+	}
+
+	@Test
+	void firstPageShowsEmployeesCreatedSinceItWasRead() throws Exception {
+		int before = JsonPath.<List<Integer>>read(mockMvc.perform(get(EMPLOYEES).param("limit", "1000"))
+				.andReturn().getResponse().getContentAsString(), "$").size();
+		long id = create(mockMvc, employee("Popescu"));
+
+		mockMvc.perform(get(EMPLOYEES).param("limit", "1000"))
+				.andExpect(jsonPath("$", hasSize(before + 1)))
+				.andExpect(jsonPath("$[-1].id").value(id));
+	}
+
+	@Test
+	void streamHoldsEveryEmployeeInIdOrder() throws Exception {
+		long id = create(mockMvc, employee("Popescu"));
+		MvcResult result = mockMvc.perform(get(EMPLOYEES).accept(MediaType.APPLICATION_NDJSON))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		String[] lines = mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString().split("\n");
+
+		List<Long> ids = Arrays.stream(lines)
+				.map(line -> ((Number) JsonPath.read(line, "$.id")).longValue())
+				.toList();
+		assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids.subList(0, 5));
+		assertEquals(ids.stream().sorted().toList(), ids);
+		assertEquals(id, ids.get(ids.size() - 1));
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.EMPLOYEES;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.create;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.employee;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.json;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.with;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Checks {@code PATCH /api/v1/employees/{id}}.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:patch-tests" })
+@AutoConfigureMockMvc
+class EmployeePatchTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void patchChangesOnlyTheGivenFieldsAndRejectsStaleVersions() throws Exception {
+		long id = create(mockMvc, employee("Patchescu"));
+		mockMvc.perform(json(patch(EMPLOYEES + "/" + id), "{\"salary\":60000,\"version\":0}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.lastName").value("Patchescu"))
+				.andExpect(jsonPath("$.salary").value(60000.0))
+				.andExpect(jsonPath("$.version").value(1));
+		mockMvc.perform(json(patch(EMPLOYEES + "/" + id), "{\"salary\":70000,\"version\":0}"))
+				.andExpect(status().isConflict());
+		mockMvc.perform(json(put(EMPLOYEES + "/" + id), with(employee("Ionescu"), "\"version\":0")))
+				.andExpect(status().isConflict());
+		mockMvc.perform(get(EMPLOYEES + "/" + id))
+				.andExpect(jsonPath("$.salary").value(60000.0))
+				.andExpect(jsonPath("$.version").value(1));
+		mockMvc.perform(json(patch(EMPLOYEES + "/999999"), "{\"salary\":60000}"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void unversionedPatchAppliesToTheCurrentVersion() throws Exception {
+		long id = create(mockMvc, employee("Patchescu"));
+		mockMvc.perform(json(patch(EMPLOYEES + "/" + id), "{\"firstName\":\"Maria\"}"))
+				.andExpect(jsonPath("$.version").value(1));
+		mockMvc.perform(json(patch(EMPLOYEES + "/" + id), "{\"province\":\"Kent\",\"country\":\"Wales\"}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.firstName").value("Maria"))
+				.andExpect(jsonPath("$.lastName").value("Patchescu"))
+				.andExpect(jsonPath("$.province").value("Kent"))
+				.andExpect(jsonPath("$.country").value("Wales"))
+				.andExpect(jsonPath("$.version").value(2));
+	}
+
+	@Test
+	void invalidFieldsAreRejected() throws Exception {
+		long id = create(mockMvc, employee("Patchescu"));
+		mockMvc.perform(json(patch(EMPLOYEES + "/" + id), "{\"lastName\":\" \"}"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(json(patch(EMPLOYEES + "/" + id), "{\"salary\":1}"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get(EMPLOYEES + "/" + id))
+				.andExpect(jsonPath("$.lastName").value("Patchescu"))
+				.andExpect(jsonPath("$.version").value(0));
+	}
+
+}
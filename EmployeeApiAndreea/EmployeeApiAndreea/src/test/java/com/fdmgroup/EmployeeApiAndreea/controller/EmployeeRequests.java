@@ -0,0 +1,56 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Request bodies and calls shared by the tests of the employee endpoints.
+ */
+final class EmployeeRequests {
+
+	static final String EMPLOYEES = "/api/v1/employees";
+
+	private EmployeeRequests() {
+	}
+
+	/**
+	 * @return the JSON of an employee in Bedfordshire, England, earning 50000
+	 */
+	static String employee(String lastName) {
+		return employee(lastName, "Bedfordshire", "England", 50000);
+	}
+
+	static String employee(String lastName, String province, String country, int salary) {
+		return ("{\"firstName\":\"Ioana\",\"lastName\":\"%s\",\"salary\":%d,\"province\":\"%s\",\"country\":\"%s\"}")
+				.formatted(lastName, salary, province, country);
+	}
+
+	/**
+	 * @return the JSON of the employee with an extra field, such as
+	 *         {@code "version":0}
+	 */
+	static String with(String employee, String field) {
+		return employee.substring(0, employee.length() - 1) + "," + field + "}";
+	}
+
+	static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String body) {
+		return request.contentType(MediaType.APPLICATION_JSON).content(body);
+	}
+
+	/**
+	 * POSTs the employee and returns the ID it was given.
+	 */
+	static long create(MockMvc mockMvc, String employee) throws Exception {
+		String body = mockMvc.perform(json(post(EMPLOYEES), employee))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+		return ((Number) JsonPath.read(body, "$.id")).longValue();
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.EMPLOYEES;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.create;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.employee;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Checks search without the in-memory index, when it is answered by a LIKE
+ * query.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:search-database-tests",
+		"employee.memory-indexes.enabled=false" })
+@AutoConfigureMockMvc
+class EmployeeSearchDatabaseTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void searchTermsAreMatchedLiterally() throws Exception {
+		long underscore = create(mockMvc, employee("Under_score"));
+		create(mockMvc, employee("Underxscore"));
+		long percent = create(mockMvc, employee("Fifty%Off"));
+		create(mockMvc, employee("FiftyPercentOff"));
+		long bang = create(mockMvc, employee("Wow!Ionescu"));
+
+		mockMvc.perform(get(EMPLOYEES + "/search-employees").param("searchTerm", "ER_SC"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[*].id", contains((int) underscore)));
+		mockMvc.perform(get(EMPLOYEES + "/search-employees").param("searchTerm", "y%o"))
+				.andExpect(jsonPath("$[*].id", contains((int) percent)));
+		mockMvc.perform(get(EMPLOYEES + "/search-employees").param("searchTerm", "w!i"))
+				.andExpect(jsonPath("$[*].id", contains((int) bang)));
+	}
+
+}
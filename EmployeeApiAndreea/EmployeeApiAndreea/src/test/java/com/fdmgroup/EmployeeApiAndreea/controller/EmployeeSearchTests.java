@@ -0,0 +1,92 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.EMPLOYEES;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.create;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.employee;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.json;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.with;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Checks {@code GET /api/v1/employees/search-employees} against the in-memory
+ * search index, including that every kind of write through the API is applied
+ * to the index. Each test searches for last names of its own.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:search-tests" })
+@AutoConfigureMockMvc
+class EmployeeSearchTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void searchMatchesAnyPartOfTheFullNameIgnoringCase() throws Exception {
+		long id = create(mockMvc, employee("Searchescu"));
+		search("NA SEARCH")
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[*].id", contains((int) id)));
+		search("%").andExpect(jsonPath("$").isEmpty());
+	}
+
+	@Test
+	void indexFollowsPutPatchAndDelete() throws Exception {
+		long id = create(mockMvc, employee("Putescu"));
+
+		mockMvc.perform(json(put(EMPLOYEES + "/" + id), employee("Replacescu"))).andExpect(status().isOk());
+		search("putescu").andExpect(jsonPath("$").isEmpty());
+		search("replacescu").andExpect(jsonPath("$[*].id", contains((int) id)));
+
+		mockMvc.perform(json(patch(EMPLOYEES + "/" + id), "{\"lastName\":\"Patchovic\"}")).andExpect(status().isOk());
+		search("replacescu").andExpect(jsonPath("$").isEmpty());
+		search("patchovic").andExpect(jsonPath("$[*].id", contains((int) id)));
+
+		mockMvc.perform(delete(EMPLOYEES + "/" + id)).andExpect(status().isOk());
+		search("patchovic").andExpect(jsonPath("$").isEmpty());
+	}
+
+	@Test
+	void indexFollowsBatchWrites() throws Exception {
+		String created = mockMvc.perform(json(post(EMPLOYEES + "/batch"),
+				"[" + employee("Lotovic") + "," + employee("Lotovic") + "]"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		List<Integer> ids = JsonPath.read(created, "$[*].id");
+		search("lotovic").andExpect(jsonPath("$[*].id", containsInAnyOrder(ids.toArray())));
+
+		mockMvc.perform(json(put(EMPLOYEES + "/batch"),
+				"[" + with(employee("Renamovic"), "\"id\":" + ids.get(0)) + "]"))
+				.andExpect(jsonPath("$[0].status").value("UPDATED"));
+		search("lotovic").andExpect(jsonPath("$[*].id", contains(ids.get(1))));
+		search("renamovic").andExpect(jsonPath("$[*].id", contains(ids.get(0))));
+
+		mockMvc.perform(json(delete(EMPLOYEES + "/batch"), ids.toString()))
+				.andExpect(jsonPath("$[*].status", contains("DELETED", "DELETED")));
+		search("lotovic").andExpect(jsonPath("$").isEmpty());
+		search("renamovic").andExpect(jsonPath("$").isEmpty());
+	}
+
+	private ResultActions search(String term) throws Exception {
+		return mockMvc.perform(get(EMPLOYEES + "/search-employees").param("searchTerm", term));
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.EMPLOYEES;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.create;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.employee;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeStatsTests.assertStats;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeStatsTests.groupsOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Checks statistics without the in-memory statistics, when they are
+ * aggregated by the database.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:stats-database-tests",
+		"employee.memory-indexes.enabled=false" })
+@AutoConfigureMockMvc
+class EmployeeStatsDatabaseTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void statsAreGroupedByCountryKey() throws Exception {
+		create(mockMvc, employee("Statescu", "North", "Querland", 30000));
+		create(mockMvc, employee("Statescu", "North", "querland ", 50000));
+		create(mockMvc, employee("Statescu", "South", "QUERLAND", 40000));
+
+		String body = mockMvc.perform(get(EMPLOYEES + "/stats").param("groupBy", "country"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		List<Map<String, Object>> countries = groupsOf(body, "QUERLAND");
+		assertEquals(1, countries.size());
+		assertStats(countries.get(0), 3, 30000, 50000, 40000);
+
+		body = mockMvc.perform(get(EMPLOYEES + "/stats"))
+				.andReturn().getResponse().getContentAsString();
+		List<Map<String, Object>> provinces = groupsOf(body, "QUERLAND");
+		assertEquals(List.of("North", "South"), provinces.stream().map(group -> group.get("province")).toList());
+		assertStats(provinces.get(0), 2, 30000, 50000, 40000);
+	}
+
+}
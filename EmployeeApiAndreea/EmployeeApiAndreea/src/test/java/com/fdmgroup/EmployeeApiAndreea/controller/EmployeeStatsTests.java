@@ -0,0 +1,101 @@
+package com.fdmgroup.EmployeeApiAndreea.controller;
+
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.EMPLOYEES;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.create;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.employee;
+import static com.fdmgroup.EmployeeApiAndreea.controller.EmployeeRequests.json;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Checks {@code GET /api/v1/employees/stats} against the incrementally
+ * maintained statistics, including after writes through the API. Each test
+ * uses countries of its own.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:stats-tests" })
+@AutoConfigureMockMvc
+class EmployeeStatsTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void statsAreGroupedByCountryOrProvince() throws Exception {
+		create(mockMvc, employee("Statescu", "North", "Statland", 30000));
+		create(mockMvc, employee("Statescu", "North", "statland ", 50000));
+		create(mockMvc, employee("Statescu", "South", "STATLAND", 40000));
+
+		List<Map<String, Object>> countries = stats("country", "STATLAND");
+		assertEquals(1, countries.size());
+		assertEquals("STATLAND", countries.get(0).get("country"));
+		assertStats(countries.get(0), 3, 30000, 50000, 40000);
+
+		List<Map<String, Object>> provinces = stats("province", "STATLAND");
+		assertEquals(List.of("North", "South"), provinces.stream().map(group -> group.get("province")).toList());
+		assertStats(provinces.get(0), 2, 30000, 50000, 40000);
+		assertStats(provinces.get(1), 1, 40000, 40000, 40000);
+	}
+
+	@Test
+	void statsFollowCreateUpdateAndDelete() throws Exception {
+		long first = create(mockMvc, employee("Changescu", "North", "Changeland", 30000));
+		long second = create(mockMvc, employee("Changescu", "North", "Changeland", 50000));
+		assertStats(stats("country", "CHANGELAND").get(0), 2, 30000, 50000, 40000);
+
+		mockMvc.perform(json(put(EMPLOYEES + "/" + first), employee("Changescu", "North", "changeland", 70000)))
+				.andExpect(status().isOk());
+		assertStats(stats("country", "CHANGELAND").get(0), 2, 50000, 70000, 60000);
+
+		mockMvc.perform(json(patch(EMPLOYEES + "/" + second), "{\"country\":\"Otherland\"}"))
+				.andExpect(status().isOk());
+		assertStats(stats("country", "CHANGELAND").get(0), 1, 70000, 70000, 70000);
+		assertStats(stats("country", "OTHERLAND").get(0), 1, 50000, 50000, 50000);
+
+		mockMvc.perform(delete(EMPLOYEES + "/" + first)).andExpect(status().isOk());
+		assertTrue(stats("country", "CHANGELAND").isEmpty());
+		assertTrue(stats("province", "CHANGELAND").isEmpty());
+	}
+
+	/**
+	 * @return the groups of the country key, in the order returned
+	 */
+	private List<Map<String, Object>> stats(String groupBy, String countryKey) throws Exception {
+		String body = mockMvc.perform(get(EMPLOYEES + "/stats").param("groupBy", groupBy))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return groupsOf(body, countryKey);
+	}
+
+	static List<Map<String, Object>> groupsOf(String stats, String countryKey) {
+		List<Map<String, Object>> groups = JsonPath.read(stats, "$");
+		return groups.stream()
+				.filter(group -> countryKey.equals(Employee.toCountryKey((String) group.get("country"))))
+				.toList();
+	}
+
+	static void assertStats(Map<String, Object> group, long count, double min, double max, double mean) {
+		assertEquals(count, ((Number) group.get("count")).longValue(), group::toString);
+		assertEquals(min, ((Number) group.get("min")).doubleValue(), group::toString);
+		assertEquals(max, ((Number) group.get("max")).doubleValue(), group::toString);
+		assertEquals(mean, ((Number) group.get("mean")).doubleValue(), group::toString);
+	}
+
+}
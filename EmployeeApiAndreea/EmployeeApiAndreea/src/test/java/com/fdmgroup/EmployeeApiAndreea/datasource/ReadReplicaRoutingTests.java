@@ -0,0 +1,195 @@
+package com.fdmgroup.EmployeeApiAndreea.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Routes reads over a primary and two read replicas, each its own in-memory H2
+ * database. H2 does not replicate, so every replica is seeded with a different
+ * employee and its heartbeat is written by the test; the data a read returns
+ * shows which database served it.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=" + ReadReplicaRoutingTests.PRIMARY_URL,
+		"employee.datasource.replicas.enabled=true",
+		"employee.datasource.replicas.nodes[0].url=" + ReadReplicaRoutingTests.REPLICA_URL + "0;DB_CLOSE_DELAY=-1",
+		"employee.datasource.replicas.nodes[1].url=" + ReadReplicaRoutingTests.REPLICA_URL + "1;DB_CLOSE_DELAY=-1",
+		"employee.datasource.replicas.max-lag=5s",
+		"employee.datasource.replicas.check-interval=1h" })
+class ReadReplicaRoutingTests {
+
+	static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+	static final String REPLICA_URL = "jdbc:h2:mem:routing-replica-";
+	private static final String COUNTRY = "Replicaland";
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private ReplicaRoutingDataSource routingDataSource;
+
+	@Autowired
+	private MeterRegistry registry;
+
+	@BeforeAll
+	static void createReplicas() throws Exception {
+		String schema = new ClassPathResource("db/migration/V1__create_employee.sql")
+				.getContentAsString(StandardCharsets.UTF_8);
+		for (int i = 0; i < 2; i++) {
+			try (Connection connection = replica(i); Statement statement = connection.createStatement()) {
+				statement.execute(schema);
+				statement.execute("create table " + ReplicaRoutingDataSource.HEARTBEAT_TABLE
+						+ " (id int primary key, beat bigint)");
+				statement.execute("insert into Employee values (" + (1000 + i) + ", 'Replica" + i
+						+ "', 'Node', 1000, 'North', '" + COUNTRY + "', '" + Employee.toCountryKey(COUNTRY) + "', 0)");
+			}
+		}
+	}
+
+	@BeforeEach
+	void leaveTheTestRequest() {
+		// The test framework binds a mock request to the test thread, which
+		// would hold every read of a test to one data source
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@BeforeEach
+	void catchUp() throws Exception {
+		// Heartbeats are compared with writes by the millisecond
+		Thread.sleep(2);
+		beat(0, 0);
+		beat(1, 0);
+		routingDataSource.checkReplicas();
+	}
+
+	@Test
+	void readOnlyTransactionsAreSpreadOverTheReplicas() {
+		double before = reads("replica-0") + reads("replica-1");
+		Set<String> servedBy = new HashSet<>();
+		servedBy.add(readNode());
+		servedBy.add(readNode());
+		assertEquals(Set.of("Replica0", "Replica1"), servedBy);
+		assertEquals(before + 2, reads("replica-0") + reads("replica-1"));
+	}
+
+	@Test
+	void writesGoToThePrimary() throws SQLException {
+		Employee employee = employeeService.addEmployee(new Employee(0, "Ioana", "Popescu", new BigDecimal("50000"),
+				"Bedfordshire", COUNTRY));
+		try (Connection connection = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+				PreparedStatement statement = connection.prepareStatement("select firstName from Employee where id = ?")) {
+			statement.setLong(1, employee.getId());
+			try (ResultSet row = statement.executeQuery()) {
+				assertTrue(row.next());
+				assertEquals("Ioana", row.getString(1));
+			}
+		} finally {
+			employeeService.deleteById(employee.getId());
+		}
+	}
+
+	@Test
+	void readsAfterAWriteGoToThePrimaryUntilTheReplicasHaveIt() throws Exception {
+		Employee employee = employeeService.addEmployee(new Employee(0, "Ioana", "Popescu", new BigDecimal("50000"),
+				"Bedfordshire", COUNTRY));
+		try {
+			double before = reads(ReplicaRoutingDataSource.PRIMARY);
+			// The replicas are within the allowed lag, but their heartbeats
+			// predate the write
+			assertTrue(routingDataSource.isAvailable("replica-0"));
+			assertEquals("Ioana", readNode());
+			assertEquals("Ioana", readNode());
+			assertEquals(before + 2, reads(ReplicaRoutingDataSource.PRIMARY));
+
+			catchUp();
+		} finally {
+			employeeService.deleteById(employee.getId());
+		}
+	}
+
+	@Test
+	void readsOfOneRequestGoToTheSameDataSource() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		try {
+			String first = readNode();
+			assertEquals(first, readNode());
+			assertEquals(first, readNode());
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+		assertNotEquals(readNode(), readNode());
+	}
+
+	@Test
+	void laggingReplicaGetsNoReads() throws SQLException {
+		beat(1, 60_000);
+		routingDataSource.checkReplicas();
+		assertTrue(routingDataSource.isAvailable("replica-0"));
+		assertFalse(routingDataSource.isAvailable("replica-1"));
+		assertEquals("Replica0", readNode());
+		assertEquals("Replica0", readNode());
+	}
+
+	@Test
+	void readsFallBackToThePrimaryWhenEveryReplicaLags() throws SQLException {
+		beat(0, 60_000);
+		beat(1, 60_000);
+		routingDataSource.checkReplicas();
+		double before = reads(ReplicaRoutingDataSource.PRIMARY);
+		assertEquals(List.of(), employeeService.getByCountry(COUNTRY, 0, 10, Employee.class));
+		assertEquals(before + 1, reads(ReplicaRoutingDataSource.PRIMARY));
+	}
+
+	private String readNode() {
+		List<Employee> employees = employeeService.getByCountry(COUNTRY, 0, 10, Employee.class);
+		assertEquals(1, employees.size());
+		return employees.get(0).getFirstName();
+	}
+
+	private double reads(String dataSource) {
+		return registry.get("employee.datasource.reads").tag("datasource", dataSource).counter().count();
+	}
+
+	private static void beat(int replica, long ageMillis) throws SQLException {
+		try (Connection connection = replica(replica);
+				PreparedStatement statement = connection.prepareStatement("merge into "
+						+ ReplicaRoutingDataSource.HEARTBEAT_TABLE + " (id, beat) key (id) values (1, ?)")) {
+			statement.setLong(1, System.currentTimeMillis() - ageMillis);
+			statement.executeUpdate();
+		}
+	}
+
+	private static Connection replica(int replica) throws SQLException {
+		return DriverManager.getConnection(REPLICA_URL + replica + ";DB_CLOSE_DELAY=-1", "sa", "");
+	}
+
+}
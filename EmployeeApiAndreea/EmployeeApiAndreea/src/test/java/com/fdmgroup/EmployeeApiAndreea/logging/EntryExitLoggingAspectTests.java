@@ -0,0 +1,44 @@
+package com.fdmgroup.EmployeeApiAndreea.logging;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Checks that with {@code employee.logging.entry-exit.enabled} controller and
+ * service calls are traced on entry and exit, without their arguments.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:entry-exit-logging-tests",
+		"employee.logging.entry-exit.enabled=true",
+		"logging.level.com.fdmgroup.EmployeeApiAndreea=TRACE" })
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class EntryExitLoggingAspectTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void callsAreTracedWithoutArguments(CapturedOutput output) throws Exception {
+		mockMvc.perform(get("/api/v1/employees/search-employees").param("searchTerm", "Popescu"))
+				.andExpect(status().isOk());
+
+		String logged = output.getOut();
+		assertTrue(logged.contains("Entering searchEmployees() method"), "controller entry");
+		assertTrue(logged.contains("Exiting searchEmployees() method"), "controller exit");
+		assertTrue(logged.contains("Entering searchByFullName() method"), "service entry");
+		assertFalse(logged.contains("Popescu"), "arguments are not logged");
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.fdmgroup.EmployeeApiAndreea.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Checks that the prod profile logs through non-blocking async appenders, with
+ * entry/exit tracing off and the slow query log sampled.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:prod-logging-tests",
+		"employee.logging.slow-query.sample-rate=0.0" })
+@ActiveProfiles("prod")
+class ProdLoggingTests {
+
+	@Autowired
+	private ApplicationContext context;
+
+	@Test
+	void consoleAndSlowQueryLogsAreAsync() {
+		LoggerContext loggers = (LoggerContext) LoggerFactory.getILoggerFactory();
+		AsyncAppender console = assertInstanceOf(AsyncAppender.class,
+				loggers.getLogger(Logger.ROOT_LOGGER_NAME).getAppender("ASYNC_CONSOLE"));
+		AsyncAppender slowQueries = assertInstanceOf(AsyncAppender.class,
+				loggers.getLogger("org.hibernate.SQL_SLOW").getAppender("ASYNC_SLOW_QUERY"));
+
+		assertTrue(console.isNeverBlock());
+		assertTrue(slowQueries.isNeverBlock());
+		assertNull(loggers.getLogger(Logger.ROOT_LOGGER_NAME).getAppender("CONSOLE"));
+	}
+
+	@Test
+	void slowQueriesAreSampled() {
+		LoggerContext loggers = (LoggerContext) LoggerFactory.getILoggerFactory();
+		AsyncAppender slowQueries = (AsyncAppender) loggers.getLogger("org.hibernate.SQL_SLOW")
+				.getAppender("ASYNC_SLOW_QUERY");
+		Appender<ILoggingEvent> appender = slowQueries.getAppender("SLOW_QUERY");
+
+		assertEquals(FilterReply.DENY, appender.getFilterChainDecision(new LoggingEvent()));
+	}
+
+	@Test
+	void entryExitTracingIsOff() {
+		assertEquals(0, context.getBeanNamesForType(EntryExitLoggingAspect.class).length);
+	}
+
+}
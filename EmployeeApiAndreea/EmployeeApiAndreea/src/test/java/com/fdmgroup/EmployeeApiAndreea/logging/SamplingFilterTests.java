@@ -0,0 +1,43 @@
+package com.fdmgroup.EmployeeApiAndreea.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+
+class SamplingFilterTests {
+
+	private final SamplingFilter filter = new SamplingFilter();
+	private final LoggingEvent event = new LoggingEvent();
+
+	@Test
+	void everyEventPassesByDefault() {
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(FilterReply.NEUTRAL, filter.decide(event));
+		}
+	}
+
+	@Test
+	void noEventPassesAtRateZero() {
+		filter.setSampleRate(0.0);
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(FilterReply.DENY, filter.decide(event));
+		}
+	}
+
+	@Test
+	void aFractionOfEventsPasses() {
+		filter.setSampleRate(0.1);
+		int passed = 0;
+		for (int i = 0; i < 10000; i++) {
+			if (filter.decide(event) == FilterReply.NEUTRAL) {
+				passed++;
+			}
+		}
+		assertTrue(passed > 500 && passed < 1500, "passed " + passed);
+	}
+
+}
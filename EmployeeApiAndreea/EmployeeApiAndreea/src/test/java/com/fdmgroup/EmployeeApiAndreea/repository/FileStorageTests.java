@@ -0,0 +1,83 @@
+package com.fdmgroup.EmployeeApiAndreea.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeService;
+
+/**
+ * Checks the {@code file} profile on a database in a temporary directory: the
+ * schema comes from the Flyway migrations, Hibernate only validates it, and
+ * employees are written to the database file.
+ */
+@SpringBootTest(properties = "eureka.client.enabled=false")
+@ActiveProfiles("file")
+@DirtiesContext
+class FileStorageTests {
+
+	@TempDir
+	static Path storageDir;
+
+	@Autowired
+	private Flyway flyway;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Value("${spring.jpa.hibernate.ddl-auto}")
+	private String ddlAuto;
+
+	@DynamicPropertySource
+	static void storage(DynamicPropertyRegistry registry) {
+		registry.add("employee.storage.dir", () -> storageDir.toString());
+	}
+
+	@Test
+	void schemaIsMigratedAndOnlyValidated() {
+		List<String> versions = Arrays.stream(flyway.info().applied())
+				.map(MigrationInfo::getVersion)
+				.map(Object::toString)
+				.toList();
+		List<String> indexes = jdbcTemplate.queryForList("select INDEX_NAME from INFORMATION_SCHEMA.INDEXES"
+				+ " where TABLE_NAME = 'EMPLOYEE' order by INDEX_NAME", String.class);
+
+		assertEquals(List.of("1", "2"), versions);
+		assertEquals("validate", ddlAuto);
+		assertTrue(indexes.containsAll(List.of("IDX_EMPLOYEE_COUNTRY_KEY", "IDX_EMPLOYEE_FIRST_NAME",
+				"IDX_EMPLOYEE_LAST_NAME")), indexes.toString());
+	}
+
+	@Test
+	void employeesAreWrittenToTheDatabaseFile() {
+		Employee created = employeeService.addEmployee(
+				new Employee(0, "Ioana", "Filescu", new BigDecimal("50000"), "Kent", "England"));
+
+		assertTrue(Files.exists(storageDir.resolve("employeeapi.mv.db")));
+		assertEquals("Filescu", jdbcTemplate.queryForObject("select lastName from Employee where id = ?",
+				String.class, created.getId()));
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.fdmgroup.EmployeeApiAndreea.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.fdmgroup.EmployeeApiAndreea.exception.ResourceNotFoundException;
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Checks that {@link EmployeeService#findById(long, long)} is answered from the
+ * employee cache until the next write, and that the cache is measured.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:cache-tests" })
+class EmployeeCacheTests {
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeChangeCounter changeCounter;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void readAfterAWriteMissesTheCache() {
+		long id = employeeService.addEmployee(employee("Popescu")).getId();
+
+		double misses = gets("miss");
+		employeeService.findById(id, position());
+		assertEquals(misses + 1, gets("miss"));
+		double hits = gets("hit");
+		employeeService.findById(id, position());
+		assertEquals(hits + 1, gets("hit"));
+
+		employeeService.updateEmployee(employee("Ionescu"), id);
+		assertEquals("Ionescu", employeeService.findById(id, position()).getLastName());
+		assertEquals(misses + 2, gets("miss"));
+
+		employeeService.deleteById(id);
+		assertThrows(ResourceNotFoundException.class, () -> employeeService.findById(id, position()));
+	}
+
+	@Test
+	void cacheMetersAreRegistered() {
+		for (String cache : new String[] { EmployeeService.EMPLOYEE_CACHE, EmployeeService.EMPLOYEES_CACHE }) {
+			assertNotNull(meterRegistry.find("cache.gets").tags("cache", cache, "result", "hit").functionCounter());
+			assertNotNull(meterRegistry.find("cache.gets").tags("cache", cache, "result", "miss").functionCounter());
+			assertNotNull(meterRegistry.find("cache.evictions").tag("cache", cache).functionCounter());
+			assertNotNull(meterRegistry.find("cache.size").tag("cache", cache).gauge());
+		}
+	}
+
+	private long position() {
+		return changeCounter.current().position();
+	}
+
+	private double gets(String result) {
+		return meterRegistry.get("cache.gets")
+				.tags("cache", EmployeeService.EMPLOYEE_CACHE, "result", result)
+				.functionCounter().count();
+	}
+
+	static Employee employee(String lastName) {
+		return new Employee(0, "Ioana", lastName, new BigDecimal("50000"), "Bedfordshire", "England");
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.fdmgroup.EmployeeApiAndreea.service;
+
+import static com.fdmgroup.EmployeeApiAndreea.service.EmployeeCacheTests.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+
+/**
+ * Checks the ETags of {@link EmployeeChangeCounter} and that cached employees
+ * are never served under a newer offset than they were read at.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"spring.datasource.url=jdbc:h2:mem:change-counter-tests" })
+class EmployeeChangeCounterTests {
+
+	@Autowired
+	private EmployeeChangeCounter changeCounter;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Test
+	void tagMovesWithEveryCommittedChange() {
+		EmployeeChangeCounter.Tag before = changeCounter.current();
+		assertEquals(before, changeCounter.current());
+
+		employeeService.addEmployee(employee("Popescu"));
+		EmployeeChangeCounter.Tag after = changeCounter.current();
+		assertEquals(before.position() + 1, after.position());
+		assertNotEquals(before.etag(), after.etag());
+		assertTrue(after.etag().startsWith("W/\"" + after.position() + "-"), after.etag());
+	}
+
+	@Test
+	void employeeCachedByASlowReaderAfterAChangeIsNotServed() {
+		long id = employeeService.addEmployee(employee("Popescu")).getId();
+		long before = changeCounter.current().position();
+		Employee stale = employeeService.findById(id, before);
+
+		employeeService.updateEmployee(employee("Ionescu"), id);
+		// A reader that loaded the employee before the update committed and only
+		// stores it now, after the caches were cleared
+		cacheManager.getCache(EmployeeService.EMPLOYEE_CACHE).put(new SimpleKey(id, before), stale);
+
+		long after = changeCounter.current().position();
+		assertTrue(after > before);
+		assertEquals("Ionescu", employeeService.findById(id, after).getLastName());
+	}
+
+}
@@ -1,8 +1,41 @@
 package com.fdmgroup.EmployeeUIAndreea;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import com.fdmgroup.EmployeeUIAndreea.service.EmployeeApiObservationConvention;
+import com.fdmgroup.EmployeeUIAndreea.service.MethodTimeoutsCapability;
+import com.fdmgroup.EmployeeUIAndreea.service.ResilienceCapability;
+
+import feign.micrometer.MicrometerObservationCapability;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.observation.ObservationRegistry;
 
 @SpringBootApplication
 @EnableFeignClients
@@ -12,4 +45,100 @@ public class EmployeeUiAndreeaApplication {
 		SpringApplication.run(EmployeeUiAndreeaApplication.class, args);
 	}
 
+	/**
+	 * Records a timer for every method of classes annotated with {@code @Timed}.
+	 */
+	@Bean
+	public TimedAspect timedAspect(MeterRegistry registry) {
+		return new TimedAspect(registry);
+	}
+
+	/**
+	 * Times every Feign call as {@value EmployeeApiObservationConvention#NAME},
+	 * replacing the default Feign observation capability.
+	 */
+	@Bean
+	public MicrometerObservationCapability micrometerObservationCapability(ObservationRegistry registry) {
+		return new MicrometerObservationCapability(registry, new EmployeeApiObservationConvention());
+	}
+
+	/**
+	 * Applies the per-method {@code employee.api.feign.*} timeouts to Feign calls.
+	 */
+	@Bean
+	public MethodTimeoutsCapability methodTimeoutsCapability(Environment environment) {
+		return MethodTimeoutsCapability.from(environment);
+	}
+
+	/**
+	 * Guards Feign calls with the {@value ResilienceCapability#NAME} circuit
+	 * breaker, bulkhead and retry, and hedges slow GETs to a second instance
+	 * when {@code employee.api.hedge.enabled} is set.
+	 */
+	@Bean
+	public ResilienceCapability resilienceCapability(CircuitBreakerRegistry circuitBreakers,
+			BulkheadRegistry bulkheads, RetryRegistry retries, LoadBalancerClient loadBalancer,
+			LoadBalancerClientFactory loadBalancers, MeterRegistry registry,
+			@Value("${employee.api.hedge.enabled:false}") boolean hedge,
+			@Value("${employee.api.hedge.delay:200ms}") Duration hedgeDelay) {
+		return new ResilienceCapability(circuitBreakers.circuitBreaker(ResilienceCapability.NAME),
+				bulkheads.bulkhead(ResilienceCapability.NAME), retries.retry(ResilienceCapability.NAME), loadBalancer,
+				loadBalancers, hedge ? hedgeDelay : null, registry);
+	}
+
+	/**
+	 * The pool of keep-alive connections behind the Feign client, sized by the
+	 * {@code spring.cloud.openfeign.httpclient.*} properties.
+	 */
+	@Bean
+	public HttpClientConnectionManager employeeApiConnectionManager(FeignHttpClientProperties properties) {
+		return PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(properties.getMaxConnections())
+				.setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+				.setConnPoolPolicy(PoolReusePolicy.valueOf(properties.getHc5().getPoolReusePolicy().name()))
+				.setPoolConcurrencyPolicy(
+						PoolConcurrencyPolicy.valueOf(properties.getHc5().getPoolConcurrencyPolicy().name()))
+				.setConnectionTimeToLive(TimeValue.of(properties.getTimeToLive(), properties.getTimeToLiveUnit()))
+				.setDefaultSocketConfig(SocketConfig.custom()
+						.setSoTimeout(Timeout.of(properties.getHc5().getSocketTimeout(),
+								properties.getHc5().getSocketTimeoutUnit()))
+						.build())
+				.build();
+	}
+
+	/**
+	 * The Feign HTTP client over {@link #employeeApiConnectionManager}, built as
+	 * Spring Cloud builds it but without the client's own retries, so that a
+	 * failed call is retried only by {@link ResilienceCapability} and not once
+	 * more on every attempt.
+	 */
+	@Bean
+	public CloseableHttpClient employeeApiHttpClient(HttpClientConnectionManager connectionManager,
+			FeignHttpClientProperties properties) {
+		return HttpClients.custom()
+				.disableCookieManagement()
+				.useSystemProperties()
+				.setConnectionManager(connectionManager)
+				.evictExpiredConnections()
+				.disableAutomaticRetries()
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectTimeout(Timeout.of(properties.getConnectionTimeout(), TimeUnit.MILLISECONDS))
+						.setRedirectsEnabled(properties.isFollowRedirects())
+						.setConnectionRequestTimeout(Timeout.of(properties.getHc5().getConnectionRequestTimeout(),
+								properties.getHc5().getConnectionRequestTimeoutUnit()))
+						.build())
+				.build();
+	}
+
+	/**
+	 * Publishes the pool of keep-alive connections behind the Feign client as
+	 * {@code httpcomponents.httpclient.pool.*} metrics.
+	 */
+	@Bean
+	public PoolingHttpClientConnectionManagerMetricsBinder feignConnectionPoolMetrics(
+			HttpClientConnectionManager connectionManager) {
+		return new PoolingHttpClientConnectionManagerMetricsBinder(
+				(PoolingHttpClientConnectionManager) connectionManager, "employee-api");
+	}
+
 }
@@ -0,0 +1,91 @@
+package com.fdmgroup.EmployeeUIAndreea;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Reports virtual threads pinned to their carrier thread, typically by
+ * blocking inside a {@code synchronized} block, for longer than
+ * {@code employee.threads.virtual.pinned-threshold}. Each pinning is timed as
+ * {@value #METRIC} and logged with the top of its stack, from the JDK Flight
+ * Recorder {@value #EVENT} event.
+ * <p>
+ * The employee API has a copy of this class that differs only in its
+ * package and description. The two applications are separate Maven builds
+ * with no shared module, so keep the copies in step.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+	public static final String METRIC = "jvm.threads.virtual.pinned";
+
+	private static final String EVENT = "jdk.VirtualThreadPinned";
+	private static final int FRAMES = 5;
+
+	private final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+	private final Duration threshold;
+	private final Timer pinned;
+	private RecordingStream recording;
+
+	public VirtualThreadPinningMonitor(MeterRegistry registry,
+			@Value("${employee.threads.virtual.pinned-threshold:20ms}") Duration threshold) {
+		super();
+		this.threshold = threshold;
+		this.pinned = Timer.builder(METRIC).description("Time virtual threads spent pinned to their carrier")
+				.register(registry);
+	}
+
+	@Override
+	public void start() {
+		recording = new RecordingStream();
+		recording.enable(EVENT).withThreshold(threshold).withStackTrace();
+		recording.onEvent(EVENT, this::onPinned);
+		recording.startAsync();
+	}
+
+	@Override
+	public void stop() {
+		recording.close();
+		recording = null;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return recording != null;
+	}
+
+	private void onPinned(RecordedEvent event) {
+		pinned.record(event.getDuration());
+		logger.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(),
+				topFrames(event.getStackTrace()));
+	}
+
+	private static String topFrames(RecordedStackTrace stackTrace) {
+		if (stackTrace == null) {
+			return "unknown";
+		}
+		return stackTrace.getFrames().stream().limit(FRAMES).map(VirtualThreadPinningMonitor::describe)
+				.collect(Collectors.joining(" <- "));
+	}
+
+	private static String describe(RecordedFrame frame) {
+		return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":"
+				+ frame.getLineNumber();
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.fdmgroup.EmployeeUIAndreea;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/**
+ * Opt-in virtual threads, enabled with
+ * {@code employee.threads.virtual.enabled=true} on Java 21 or later. Tomcat
+ * then runs every request on its own virtual thread instead of its
+ * {@code server.tomcat.threads.max} pool, and so does the application task
+ * executor used for async request processing, so a page waiting on a Feign
+ * call to the employee API no longer holds a platform thread.
+ * <p>
+ * The employee API has a copy of this class that differs only in its
+ * package and description. The two applications are separate Maven builds
+ * with no shared module, so keep the copies in step.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "employee.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfiguration {
+
+	/**
+	 * Starts a new virtual thread for each task, shut down with the context.
+	 *
+	 * @throws IllegalStateException if the JVM has no virtual threads
+	 */
+	@Bean
+	public ExecutorService virtualThreadExecutor() {
+		try {
+			// Looked up reflectively so the application still builds for Java 17
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(
+					"employee.threads.virtual.enabled needs Java 21 or later, running on " + Runtime.version(), e);
+		}
+	}
+
+	@Bean
+	public TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer(
+			ExecutorService virtualThreadExecutor) {
+		return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+	}
+
+	@Bean(name = { TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor" })
+	public AsyncTaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+		return new TaskExecutorAdapter(virtualThreadExecutor);
+	}
+
+}
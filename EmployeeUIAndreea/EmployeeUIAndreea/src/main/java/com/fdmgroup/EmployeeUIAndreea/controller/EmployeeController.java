@@ -13,6 +13,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import com.fdmgroup.EmployeeUIAndreea.model.Employee;
+import com.fdmgroup.EmployeeUIAndreea.model.EmployeePage;
+import com.fdmgroup.EmployeeUIAndreea.service.ConditionalEmployeeService;
 import com.fdmgroup.EmployeeUIAndreea.service.FeignClientEmployeeService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -25,28 +27,44 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 @Controller
 public class EmployeeController {
 
+	private static final String ALL_EMPLOYEES = "redirect:/allEmployees";
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final String SORT_BY_ID = "id";
+	private static final String SORT_BY_LAST_NAME = "lastName";
+
 	private FeignClientEmployeeService employeeService;
+	private ConditionalEmployeeService employeeCache;
 	private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
 
 	/**
 	 * Constructor for EmployeeController.
 	 *
 	 * @param employeeService the FeignClientEmployeeService instance
+	 * @param employeeCache   the ConditionalEmployeeService near cache, used for
+	 *                        reads by ID, pages of employees and writes
 	 */
-	public EmployeeController(FeignClientEmployeeService employeeService) {
+	public EmployeeController(FeignClientEmployeeService employeeService, ConditionalEmployeeService employeeCache) {
 		super();
 		this.employeeService = employeeService;
+		this.employeeCache = employeeCache;
 	}
 
 	/**
-	 * Retrieves all employees and renders the view.
+	 * Renders one page of all employees, fetched from the API as a keyset page,
+	 * with links to the first, previous and next pages and to the other sort
+	 * order.
 	 *
-	 * @param model the Model object
+	 * @param model  the Model object
+	 * @param size   the number of employees per page, at most 100
+	 * @param sort   the order of the employees, {@code id} or {@code lastName}
+	 * @param after  the cursor after which the page starts
+	 * @param before the cursor before which the page ends
 	 * @return the name of the view to render
 	 */
 	@Operation(
 		summary = "Get all employees",
-		description = "This API endpoint retrieves all employees.",
+		description = "This API endpoint retrieves one page of all employees, ordered by ID or last name.",
 		responses = {
 			@ApiResponse(
 				responseCode = "200",
@@ -56,9 +74,18 @@ public class EmployeeController {
 		}
 	)
 	@RequestMapping("allEmployees")
-	public String allEmployees(Model model) {
+	public String allEmployees(Model model, @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+			@RequestParam(defaultValue = SORT_BY_ID) String sort, @RequestParam(required = false) String after,
+			@RequestParam(required = false) String before) {
 		logger.info("Entering allEmployees() method");
-		model.addAttribute("listOfEmployees", employeeService.getAllEmployees());
+		int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		String order = SORT_BY_LAST_NAME.equals(sort) ? SORT_BY_LAST_NAME : SORT_BY_ID;
+		EmployeePage page = employeeCache.getPage(order, after, after == null ? before : null, pageSize);
+		model.addAttribute("listOfEmployees", page.employees());
+		model.addAttribute("size", pageSize);
+		model.addAttribute("sort", order);
+		model.addAttribute("nextCursor", page.nextCursor());
+		model.addAttribute("prevCursor", page.prevCursor());
 		logger.info("Exiting allEmployees() method");
 		return "all-employees";
 	}
@@ -92,15 +119,15 @@ public class EmployeeController {
 	 * Submits employee data for addition.
 	 *
 	 * @param employee the Employee object to add
-	 * @return a forward URL for redirecting to the allEmployees endpoint
+	 * @return a redirect to the allEmployees endpoint
 	 */
 	@Operation(
 		summary = "Submit employee data",
 		description = "This API endpoint submits employee data for addition.",
 		responses = {
 			@ApiResponse(
-				responseCode = "200",
-				description = "Successful operation",
+				responseCode = "302",
+				description = "Employee created, redirecting to all employees",
 				content = @Content(mediaType = "text/html")
 			)
 		}
@@ -108,9 +135,9 @@ public class EmployeeController {
 	@PostMapping("addEmployeeSubmit")
 	public String addBookSubmit(@ModelAttribute Employee employee) {
 		logger.info("Entering addBookSubmit() method");
-		employeeService.createEmployee(employee);
+		employeeCache.createEmployee(employee);
 		logger.info("Exiting addBookSubmit() method");
-		return "forward:/allEmployees";
+		return ALL_EMPLOYEES;
 	}
 
 	/**
@@ -134,7 +161,7 @@ public class EmployeeController {
 	@GetMapping("editEmployee")
 	public String editEmployee(Model model, @RequestParam long id) {
 		logger.info("Entering editEmployee() method");
-		model.addAttribute("employee", employeeService.getById(id));
+		model.addAttribute("employee", employeeCache.getById(id));
 		logger.info("Exiting editEmployee() method");
 		return "edit-employee";
 	}
@@ -143,15 +170,15 @@ public class EmployeeController {
 	 * Submits edited employee data.
 	 *
 	 * @param employee the Employee object with edited data
-	 * @return a forward URL for redirecting to the allEmployees endpoint
+	 * @return a redirect to the allEmployees endpoint
 	 */
 	@Operation(
 		summary = "Submit edited employee data",
 		description = "This API endpoint submits edited employee data.",
 		responses = {
 			@ApiResponse(
-				responseCode = "200",
-				description = "Successful operation",
+				responseCode = "302",
+				description = "Employee updated, redirecting to all employees",
 				content = @Content(mediaType = "text/html")
 			)
 		}
@@ -159,24 +186,24 @@ public class EmployeeController {
 	@PostMapping("editEmployeeSubmit")
 	public String editEmployeeSubmit(@ModelAttribute Employee employee) {
 		logger.info("Entering editEmployeeSubmit() method");
-		employeeService.updateEmployee(employee.getId(), employee);
+		employeeCache.updateEmployee(employee.getId(), employee);
 		logger.info("Exiting editEmployeeSubmit() method");
-		return "forward:/allEmployees";
+		return ALL_EMPLOYEES;
 	}
 
 	/**
 	 * Deletes an employee by ID.
 	 *
 	 * @param id the ID of the employee to delete
-	 * @return a forward URL for redirecting to the allEmployees endpoint
+	 * @return a redirect to the allEmployees endpoint
 	 */
 	@Operation(
 		summary = "Delete an employee",
 		description = "This API endpoint deletes an employee by ID.",
 		responses = {
 			@ApiResponse(
-				responseCode = "200",
-				description = "Successful operation",
+				responseCode = "302",
+				description = "Employee deleted, redirecting to all employees",
 				content = @Content(mediaType = "text/html")
 			)
 		}
@@ -184,9 +211,9 @@ public class EmployeeController {
 	@GetMapping("deleteEmployee")
 	public String deleteEmployeeById(@RequestParam long id) {
 		logger.info("Entering deleteEmployeeById() method");
-		employeeService.deleteEmployee(id);
+		employeeCache.deleteEmployee(id);
 		logger.info("Exiting deleteEmployeeById() method");
-		return "forward:/allEmployees";
+		return ALL_EMPLOYEES;
 	}
 
 	/**
@@ -215,7 +242,7 @@ public class EmployeeController {
 	@GetMapping("/searchEmployee")
 	public String searchEmployee(@RequestParam("id") long id, Model model) {
 		logger.info("Entering searchEmployee() method");
-		Employee employee = employeeService.getById(id);
+		Employee employee = employeeCache.getById(id);
 		if (employee != null) {
 			model.addAttribute("employee", employee);
 			logger.info("Exiting searchEmployee() method with employee found");
@@ -255,7 +282,7 @@ public class EmployeeController {
 		logger.info("Entering searchEmployees() method");
 		List<Employee> employees = employeeService.findByFullNameContainsIgnoreCase(searchInput);
 		if (!employees.isEmpty()) {
-			model.addAttribute("employee", employees);
+			model.addAttribute("employees", employees);
 			logger.info("Exiting searchEmployees() method with matching employees found");
 			return "search-result";
 		} else {
@@ -293,7 +320,7 @@ public class EmployeeController {
 		logger.info("Entering handleSearchEmployees() method");
 		List<Employee> employees = employeeService.findByFullNameContainsIgnoreCase(searchInput);
 		if (!employees.isEmpty()) {
-			model.addAttribute("employee", employees);
+			model.addAttribute("employees", employees);
 			logger.info("Exiting handleSearchEmployees() method with matching employees found");
 			return "search-result";
 		}
@@ -329,7 +356,7 @@ public class EmployeeController {
 		logger.info("Entering searchEmployeesSubmit() method");
 		List<Employee> employees = employeeService.findByFullNameContainsIgnoreCase(searchInput);
 		if (!employees.isEmpty()) {
-			model.addAttribute("employee", employees);
+			model.addAttribute("employees", employees);
 			logger.info("Exiting searchEmployeesSubmit() method with matching employees found");
 			return "search-result";
 		}
@@ -363,7 +390,7 @@ public class EmployeeController {
 	@GetMapping("showEmployee")
 	public String showEmployee(Model model, @RequestParam long id) {
 	    logger.info("Entering showEmployee() method");
-	    Employee employee = employeeService.getById(id);
+	    Employee employee = employeeCache.getById(id);
 	    if (employee != null) {
 	        model.addAttribute("employee", employee);
 	        logger.info("Exiting showEmployee() method with employee found");
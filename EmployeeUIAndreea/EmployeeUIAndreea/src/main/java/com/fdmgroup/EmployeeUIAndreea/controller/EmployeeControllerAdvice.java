@@ -1,13 +1,18 @@
 package com.fdmgroup.EmployeeUIAndreea.controller;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
 
 import com.fdmgroup.EmployeeUIAndreea.exception.GenericEmployeeException;
 import com.fdmgroup.EmployeeUIAndreea.exception.InvalidEmployeeException;
 
 import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 
 
 @ControllerAdvice
@@ -33,4 +38,46 @@ public class EmployeeControllerAdvice {
         return "not-found";
     }
 
+	@ExceptionHandler(FeignException.Conflict.class)
+	@ResponseStatus(HttpStatus.CONFLICT)
+	public String handleConflictException(Model model, FeignException.Conflict ex) {
+		model.addAttribute("errorCode", ex.status());
+		model.addAttribute("errorMessage", "The employee was changed by someone else, please reload and try again");
+		return "error-page";
+	}
+
+	@ExceptionHandler(FeignException.FeignClientException.class)
+	public String handleClientException(Model model, FeignException.FeignClientException ex) {
+		model.addAttribute("errorCode", ex.status());
+		model.addAttribute("errorMessage", "The employee service could not handle this request");
+		return "error-page";
+	}
+
+	// The API failed, or is being spared by the circuit breaker or bulkhead,
+	// and there was no cached data to fall back on
+
+	@ExceptionHandler(FeignException.FeignServerException.class)
+	@ResponseStatus(HttpStatus.BAD_GATEWAY)
+	public String handleServerException(Model model, FeignException.FeignServerException ex) {
+		model.addAttribute("errorCode", ex.status());
+		model.addAttribute("errorMessage", "The employee service failed, please try again later");
+		return "error-page";
+	}
+
+	@ExceptionHandler(RetryableException.class)
+	@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+	public String handleUnreachableException(Model model, RetryableException ex) {
+		model.addAttribute("errorCode", HttpStatus.SERVICE_UNAVAILABLE.value());
+		model.addAttribute("errorMessage", "The employee service cannot be reached, please try again later");
+		return "error-page";
+	}
+
+	@ExceptionHandler({ CallNotPermittedException.class, BulkheadFullException.class })
+	@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+	public String handleUnavailableException(Model model, RuntimeException ex) {
+		model.addAttribute("errorCode", HttpStatus.SERVICE_UNAVAILABLE.value());
+		model.addAttribute("errorMessage", "The employee service is unavailable, please try again in a moment");
+		return "error-page";
+	}
+
 }
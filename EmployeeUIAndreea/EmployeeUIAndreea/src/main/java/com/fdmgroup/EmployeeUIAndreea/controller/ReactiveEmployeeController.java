@@ -0,0 +1,233 @@
+package com.fdmgroup.EmployeeUIAndreea.controller;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.fdmgroup.EmployeeUIAndreea.model.Employee;
+import com.fdmgroup.EmployeeUIAndreea.service.WebClientEmployeeService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link EmployeeController} under {@code /reactive},
+ * rendering the same views. Each handler returns a {@link Mono} of the view
+ * name, so the request is processed asynchronously: the servlet thread is
+ * released while {@link WebClientEmployeeService} waits on the employee API,
+ * and a container thread is only taken back to render the page.
+ */
+@Controller
+@RequestMapping("/reactive")
+public class ReactiveEmployeeController {
+
+	private static final String ALL_EMPLOYEES = "redirect:/reactive/allEmployees";
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final String SORT_BY_ID = "id";
+	private static final String SORT_BY_LAST_NAME = "lastName";
+
+	private WebClientEmployeeService employeeService;
+
+	/**
+	 * Constructor for ReactiveEmployeeController.
+	 *
+	 * @param employeeService the WebClientEmployeeService instance
+	 */
+	public ReactiveEmployeeController(WebClientEmployeeService employeeService) {
+		super();
+		this.employeeService = employeeService;
+	}
+
+	/**
+	 * Renders one page of all employees, fetched from the API as a keyset page
+	 * like {@link EmployeeController#allEmployees}, with links to the first,
+	 * previous and next pages and to the other sort order.
+	 *
+	 * @param model  the Model object
+	 * @param size   the number of employees per page, at most 100
+	 * @param sort   the order of the employees, {@code id} or {@code lastName}
+	 * @param after  the cursor after which the page starts
+	 * @param before the cursor before which the page ends
+	 * @return the name of the view to render, once the page arrives
+	 */
+	@Operation(
+		summary = "Get all employees (non-blocking)",
+		description = "This endpoint retrieves one page of all employees, ordered by ID or last name, without holding a request thread.",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Successful operation",
+				content = @Content(mediaType = "text/html")
+			)
+		}
+	)
+	@GetMapping("allEmployees")
+	public Mono<String> allEmployees(Model model, @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+			@RequestParam(defaultValue = SORT_BY_ID) String sort, @RequestParam(required = false) String after,
+			@RequestParam(required = false) String before) {
+		int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		String order = SORT_BY_LAST_NAME.equals(sort) ? SORT_BY_LAST_NAME : SORT_BY_ID;
+		return employeeService.getPage(pageSize, order, after, after == null ? before : null).map(page -> {
+			model.addAttribute("listOfEmployees", page.employees());
+			model.addAttribute("size", pageSize);
+			model.addAttribute("sort", order);
+			model.addAttribute("nextCursor", page.nextCursor());
+			model.addAttribute("prevCursor", page.prevCursor());
+			return "all-employees";
+		});
+	}
+
+	/**
+	 * Renders the view for adding an employee.
+	 *
+	 * @param model the Model object
+	 * @return the name of the view to render
+	 */
+	@Operation(
+		summary = "Add an employee (non-blocking)",
+		description = "This endpoint renders the view for adding an employee.",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Successful operation",
+				content = @Content(mediaType = "text/html")
+			)
+		}
+	)
+	@GetMapping("addEmployee")
+	public String addEmployee(Model model) {
+		model.addAttribute("employee", new Employee());
+		return "add-employee";
+	}
+
+	/**
+	 * Submits employee data for addition.
+	 *
+	 * @param employee the Employee object to add
+	 * @return a redirect to the allEmployees endpoint, once the employee is created
+	 */
+	@Operation(
+		summary = "Submit employee data (non-blocking)",
+		description = "This endpoint submits employee data for addition.",
+		responses = {
+			@ApiResponse(
+				responseCode = "302",
+				description = "Employee created, redirecting to all employees",
+				content = @Content(mediaType = "text/html")
+			)
+		}
+	)
+	@PostMapping("addEmployeeSubmit")
+	public Mono<String> addEmployeeSubmit(@ModelAttribute Employee employee) {
+		return employeeService.createEmployee(employee).thenReturn(ALL_EMPLOYEES);
+	}
+
+	/**
+	 * Renders the view for editing an employee.
+	 *
+	 * @param model the Model object
+	 * @param id the ID of the employee to edit
+	 * @return the name of the view to render, once the employee arrives
+	 */
+	@Operation(
+		summary = "Edit an employee (non-blocking)",
+		description = "This endpoint renders the view for editing an employee.",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Successful operation",
+				content = @Content(mediaType = "text/html")
+			)
+		}
+	)
+	@GetMapping("editEmployee")
+	public Mono<String> editEmployee(Model model, @RequestParam long id) {
+		return employeeService.getById(id).map(employee -> {
+			model.addAttribute("employee", employee);
+			return "edit-employee";
+		});
+	}
+
+	/**
+	 * Submits edited employee data.
+	 *
+	 * @param employee the Employee object with edited data
+	 * @return a redirect to the allEmployees endpoint, once the employee is updated
+	 */
+	@Operation(
+		summary = "Submit edited employee data (non-blocking)",
+		description = "This endpoint submits edited employee data.",
+		responses = {
+			@ApiResponse(
+				responseCode = "302",
+				description = "Employee updated, redirecting to all employees",
+				content = @Content(mediaType = "text/html")
+			)
+		}
+	)
+	@PostMapping("editEmployeeSubmit")
+	public Mono<String> editEmployeeSubmit(@ModelAttribute Employee employee) {
+		return employeeService.updateEmployee(employee.getId(), employee).thenReturn(ALL_EMPLOYEES);
+	}
+
+	/**
+	 * Deletes an employee by ID.
+	 *
+	 * @param id the ID of the employee to delete
+	 * @return a redirect to the allEmployees endpoint, once the employee is deleted
+	 */
+	@Operation(
+		summary = "Delete an employee (non-blocking)",
+		description = "This endpoint deletes an employee by ID.",
+		responses = {
+			@ApiResponse(
+				responseCode = "302",
+				description = "Employee deleted, redirecting to all employees",
+				content = @Content(mediaType = "text/html")
+			)
+		}
+	)
+	@GetMapping("deleteEmployee")
+	public Mono<String> deleteEmployeeById(@RequestParam long id) {
+		return employeeService.deleteEmployeeById(id).thenReturn(ALL_EMPLOYEES);
+	}
+
+	/**
+	 * Retrieves and displays employee details based on the provided employee ID.
+	 *
+	 * @param model the model object to hold the employee data
+	 * @param id    the ID of the employee to retrieve
+	 * @return the view name for displaying the employee details, once the employee arrives
+	 */
+	@Operation(
+		summary = "Show employee details (non-blocking)",
+		description = "Retrieves and displays employee details based on the provided employee ID.",
+		responses = {
+			@ApiResponse(
+				responseCode = "200",
+				description = "Successful operation",
+				content = @Content(mediaType = "text/html")
+			),
+			@ApiResponse(
+				responseCode = "404",
+				description = "Employee not found",
+				content = @Content(mediaType = "text/html")
+			)
+		}
+	)
+	@GetMapping("showEmployee")
+	public Mono<String> showEmployee(Model model, @RequestParam long id) {
+		return employeeService.getById(id).map(employee -> {
+			model.addAttribute("employee", employee);
+			return "show-employee";
+		});
+	}
+
+}
@@ -0,0 +1,26 @@
+package com.fdmgroup.EmployeeUIAndreea.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import feign.Response;
+import feign.codec.ErrorDecoder;
+
+/**
+ * Feign error decoder for the employee API. Feign treats every non-2xx status
+ * as an error, so a 304 answer to a conditional request is turned into a
+ * {@link NotModifiedException}; everything else is left to the default decoder.
+ */
+@Component
+public class EmployeeApiErrorDecoder implements ErrorDecoder {
+
+	private final ErrorDecoder defaultDecoder = new ErrorDecoder.Default();
+
+	@Override
+	public Exception decode(String methodKey, Response response) {
+		if (response.status() == HttpStatus.NOT_MODIFIED.value()) {
+			return new NotModifiedException();
+		}
+		return defaultDecoder.decode(methodKey, response);
+	}
+}
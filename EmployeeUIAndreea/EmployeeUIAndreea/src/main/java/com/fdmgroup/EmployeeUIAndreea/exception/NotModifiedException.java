@@ -0,0 +1,15 @@
+package com.fdmgroup.EmployeeUIAndreea.exception;
+
+/**
+ * Thrown by the Feign client when the API answers 304 Not Modified to a
+ * conditional request. It is part of normal control flow, so no stack trace is
+ * captured.
+ */
+public class NotModifiedException extends RuntimeException {
+
+	private static final long serialVersionUID = -3094829306530126317L;
+
+	public NotModifiedException() {
+		super("Not modified", null, false, false);
+	}
+}
@@ -11,6 +11,7 @@ public class Employee {
 	private BigDecimal salary;
 	private String province;
 	private String country;
+	private Long version;
 
 	// Constructors
 	public Employee(long id, String firstName, String lastName, BigDecimal salary, String province, String country) {
@@ -76,4 +77,12 @@ public class Employee {
 		this.country = country;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
 }
@@ -0,0 +1,13 @@
+package com.fdmgroup.EmployeeUIAndreea.model;
+
+import java.util.List;
+
+/**
+ * What changed in the employees since a sync token, as returned by the
+ * employee API: the employees created or updated and the IDs of those
+ * deleted, with the token for the next call. When {@code full} is true the
+ * employees are all of them and replace any local copy.
+ */
+public record EmployeeDelta(long token, boolean full, List<Employee> employees, List<Long> deleted) {
+
+}
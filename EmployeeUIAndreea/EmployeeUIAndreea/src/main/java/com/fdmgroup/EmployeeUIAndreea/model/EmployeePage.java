@@ -0,0 +1,11 @@
+package com.fdmgroup.EmployeeUIAndreea.model;
+
+import java.util.List;
+
+/**
+ * One keyset page of employees as returned by the employee API, with the
+ * cursors of the neighbouring pages (null when there is no such page).
+ */
+public record EmployeePage(List<Employee> employees, String nextCursor, String prevCursor) {
+
+}
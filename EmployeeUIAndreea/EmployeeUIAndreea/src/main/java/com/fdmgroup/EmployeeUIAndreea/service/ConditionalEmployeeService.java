@@ -0,0 +1,354 @@
+package com.fdmgroup.EmployeeUIAndreea.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import com.fdmgroup.EmployeeUIAndreea.exception.NotModifiedException;
+import com.fdmgroup.EmployeeUIAndreea.model.Employee;
+import com.fdmgroup.EmployeeUIAndreea.model.EmployeeDelta;
+import com.fdmgroup.EmployeeUIAndreea.model.EmployeePage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Near cache of employees and employee pages in front of
+ * {@link FeignClientEmployeeService}. Entries fetched less than
+ * {@code employee.ui.cache.fresh-for} ago are served without calling the API. Older entries are revalidated with
+ * {@code If-None-Match} ({@code employee.ui.cache.revalidate}); when the API
+ * answers 304 the cached body is reused and counts as fresh again, so
+ * unchanged data is neither re-serialized nor re-transferred. The cache holds
+ * at most {@code employee.ui.cache.max-employees} employees and
+ * {@code employee.ui.cache.max-pages} pages, and drops entries unused for
+ * {@code employee.ui.cache.expire-after}.
+ * <p>
+ * With {@code employee.ui.sync.enabled} (off by default), pages are instead cut
+ * from an {@link EmployeeSnapshot} of all employees, held in full in memory.
+ * Once the snapshot is no longer fresh it is brought up to date with
+ * {@code GET /api/v1/employees?modifiedSince=<token>}, which only returns the
+ * employees changed or deleted since the last sync, so refreshing unchanged
+ * data costs one small response whatever the number of employees.
+ * <p>
+ * Writes go through this service. The written employee is cached from the
+ * API's response; the cached pages are dropped, as a write can move employees
+ * across page boundaries, and a failed write also drops the employee. Writes
+ * also make the snapshot stale, so the next page read syncs it. Changes made
+ * through other UI instances show up once the entries are no longer fresh.
+ * <p>
+ * When the API cannot answer a read, because it is unreachable, fails with a
+ * 5xx status or is spared by the circuit breaker or bulkhead of
+ * {@link ResilienceCapability}, the cached entry or snapshot is served however
+ * old it is, so pages keep rendering at cache speed through an outage. Only
+ * reads with nothing cached fail. Readers also get the current snapshot rather
+ * than wait while another request syncs it.
+ * <p>
+ * Reads are timed as {@code employee.reader}; the
+ * {@code employee.reader.revalidations} counter records how often the API
+ * answered with a new body ({@code modified}) or with 304
+ * ({@code not_modified}), and {@code employee.reader.fresh} how many reads were
+ * served from the cache without any call. {@code employee.reader.syncs} counts
+ * the snapshot syncs that received all employees ({@code full}), a delta
+ * ({@code changed}) or no change ({@code unchanged}), and
+ * {@code employee.reader.stale} the reads served from outdated data instead.
+ */
+@Service
+public class ConditionalEmployeeService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ConditionalEmployeeService.class);
+	private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+	private static final String PREV_CURSOR_HEADER = "X-Prev-Cursor";
+
+	private final FeignClientEmployeeService employeeService;
+	private final long freshForNanos;
+	private final boolean revalidate;
+	private final Counter modified;
+	private final Counter notModified;
+	private final Counter fresh;
+	private final Counter stale;
+	private final Cache<Long, Validated<Employee>> employees;
+	private final Cache<PageKey, Validated<EmployeePage>> pages;
+	private final boolean sync;
+	private final Counter fullSyncs;
+	private final Counter changedSyncs;
+	private final Counter unchangedSyncs;
+	private final AtomicLong writes = new AtomicLong();
+	private final ReentrantLock syncLock = new ReentrantLock();
+	private volatile Synced synced;
+
+	public ConditionalEmployeeService(FeignClientEmployeeService employeeService, MeterRegistry registry,
+			@Value("${employee.ui.cache.max-employees:10000}") long maxEmployees,
+			@Value("${employee.ui.cache.max-pages:1000}") long maxPages,
+			@Value("${employee.ui.cache.fresh-for:5s}") Duration freshFor,
+			@Value("${employee.ui.cache.expire-after:10m}") Duration expireAfter,
+			@Value("${employee.ui.cache.revalidate:true}") boolean revalidate,
+			@Value("${employee.ui.sync.enabled:false}") boolean sync) {
+		super();
+		this.employeeService = employeeService;
+		this.freshForNanos = freshFor.toNanos();
+		this.revalidate = revalidate;
+		this.employees = Caffeine.newBuilder().maximumSize(maxEmployees).expireAfterAccess(expireAfter).build();
+		this.pages = Caffeine.newBuilder().maximumSize(maxPages).expireAfterAccess(expireAfter).build();
+		this.modified = registry.counter("employee.reader.revalidations", "result", "modified");
+		this.notModified = registry.counter("employee.reader.revalidations", "result", "not_modified");
+		this.fresh = registry.counter("employee.reader.fresh");
+		this.stale = registry.counter("employee.reader.stale");
+		this.sync = sync;
+		this.fullSyncs = registry.counter("employee.reader.syncs", "result", "full");
+		this.changedSyncs = registry.counter("employee.reader.syncs", "result", "changed");
+		this.unchangedSyncs = registry.counter("employee.reader.syncs", "result", "unchanged");
+	}
+
+	/**
+	 * Retrieves one keyset page of employees. With sync enabled the page is cut
+	 * from the snapshot, synced first unless fresh; otherwise it comes from the
+	 * cache while fresh and the previously fetched page is revalidated. Either
+	 * falls back to outdated data when the API is unavailable.
+	 *
+	 * @param sort   the order of the employees, {@code id} or {@code lastName}
+	 * @param after  the cursor after which the page starts, or null
+	 * @param before the cursor before which the page ends, or null
+	 * @param size   the maximum number of employees in the page
+	 * @return the page, with the cursors of its neighbours
+	 */
+	@Timed(value = "employee.reader", histogram = true)
+	public EmployeePage getPage(String sort, String after, String before, int size) {
+		if (sync) {
+			return snapshot().page(sort, after, before, size);
+		}
+		PageKey key = new PageKey(sort, after, before, size);
+		Validated<EmployeePage> cached = pages.getIfPresent(key);
+		if (isFresh(cached)) {
+			fresh.increment();
+			return cached.body();
+		}
+		try {
+			ResponseEntity<List<Employee>> response = employeeService.getEmployeePage(size, sort, after, before,
+					etagOf(cached));
+			HttpHeaders headers = response.getHeaders();
+			EmployeePage page = new EmployeePage(response.getBody(), headers.getFirst(NEXT_CURSOR_HEADER),
+					headers.getFirst(PREV_CURSOR_HEADER));
+			pages.put(key, new Validated<>(headers.getETag(), page, System.nanoTime()));
+			modified.increment();
+			return page;
+		} catch (NotModifiedException ex) {
+			notModified.increment();
+			logger.debug("Employee page {} not modified, reusing {}", key, cached.etag());
+			pages.put(key, cached.revalidated());
+			return cached.body();
+		} catch (RuntimeException ex) {
+			if (cached == null || !isUnavailable(ex)) {
+				throw ex;
+			}
+			logger.warn("Employee API unavailable ({}), serving stale page {}", ex.toString(), key);
+			stale.increment();
+			return cached.body();
+		}
+	}
+
+	/**
+	 * Retrieves an employee by ID, from the cache while fresh and otherwise
+	 * revalidating the previously fetched copy, or falling back to it when the
+	 * API is unavailable.
+	 *
+	 * @param id the ID of the employee
+	 * @return the employee
+	 */
+	@Timed(value = "employee.reader", histogram = true)
+	public Employee getById(long id) {
+		Validated<Employee> cached = employees.getIfPresent(id);
+		if (isFresh(cached)) {
+			fresh.increment();
+			return cached.body();
+		}
+		try {
+			ResponseEntity<Employee> response = employeeService.getById(id, etagOf(cached));
+			employees.put(id, new Validated<>(response.getHeaders().getETag(), response.getBody(), System.nanoTime()));
+			modified.increment();
+			return response.getBody();
+		} catch (NotModifiedException ex) {
+			notModified.increment();
+			logger.debug("Employee {} not modified, reusing {}", id, cached.etag());
+			employees.put(id, cached.revalidated());
+			return cached.body();
+		} catch (RuntimeException ex) {
+			if (cached == null || !isUnavailable(ex)) {
+				throw ex;
+			}
+			logger.warn("Employee API unavailable ({}), serving stale employee {}", ex.toString(), id);
+			stale.increment();
+			return cached.body();
+		}
+	}
+
+	/**
+	 * Creates an employee, caches it and drops the cached pages.
+	 *
+	 * @param employee the employee to create
+	 * @return the created employee
+	 */
+	public Employee createEmployee(Employee employee) {
+		Employee created = employeeService.createEmployee(employee);
+		employees.put(created.getId(), Validated.written(created));
+		invalidatePages();
+		return created;
+	}
+
+	/**
+	 * Updates an employee, replaces it in the cache and drops the cached pages.
+	 *
+	 * @param id       the ID of the employee
+	 * @param employee the new state of the employee
+	 * @return the updated employee
+	 */
+	public Employee updateEmployee(long id, Employee employee) {
+		Employee updated;
+		try {
+			updated = employeeService.updateEmployee(id, employee);
+		} catch (RuntimeException ex) {
+			invalidate(id);
+			throw ex;
+		}
+		employees.put(id, Validated.written(updated));
+		invalidatePages();
+		return updated;
+	}
+
+	/**
+	 * Deletes an employee, removes it from the cache and drops the cached pages.
+	 *
+	 * @param id the ID of the employee
+	 */
+	public void deleteEmployee(long id) {
+		try {
+			employeeService.deleteEmployee(id);
+		} catch (RuntimeException ex) {
+			invalidate(id);
+			throw ex;
+		}
+		employees.invalidate(id);
+		invalidatePages();
+	}
+
+	private void invalidate(long id) {
+		employees.invalidate(id);
+		invalidatePages();
+	}
+
+	private void invalidatePages() {
+		pages.invalidateAll();
+		writes.incrementAndGet();
+	}
+
+	// The snapshot, synced first unless it is fresh and no write went through
+	// this service since. One request syncs at a time; the others get the
+	// current snapshot, or wait for the first one
+	private EmployeeSnapshot snapshot() {
+		Synced current = synced;
+		if (isFresh(current)) {
+			fresh.increment();
+			return current.snapshot();
+		}
+		if (current != null && !syncLock.tryLock()) {
+			stale.increment();
+			return current.snapshot();
+		}
+		if (current == null) {
+			syncLock.lock();
+		}
+		try {
+			current = synced;
+			if (isFresh(current)) {
+				fresh.increment();
+				return current.snapshot();
+			}
+			// Read before the call, so that a write made during it leaves the
+			// snapshot stale
+			long writesSeen = writes.get();
+			EmployeeSnapshot snapshot = current == null ? null : current.snapshot();
+			EmployeeDelta delta;
+			try {
+				delta = employeeService.getEmployeesModifiedSince(snapshot == null ? 0 : snapshot.token());
+			} catch (RuntimeException ex) {
+				if (snapshot == null || !isUnavailable(ex)) {
+					throw ex;
+				}
+				logger.warn("Employee API unavailable ({}), serving stale snapshot", ex.toString());
+				stale.increment();
+				return snapshot;
+			}
+			if (snapshot == null || delta.full()) {
+				snapshot = EmployeeSnapshot.of(delta);
+				fullSyncs.increment();
+			} else if (delta.employees().isEmpty() && delta.deleted().isEmpty()) {
+				unchangedSyncs.increment();
+			} else {
+				snapshot.merge(delta);
+				changedSyncs.increment();
+			}
+			logger.debug("Employee snapshot synced to token {}", delta.token());
+			synced = new Synced(snapshot, System.nanoTime(), writesSeen);
+			return snapshot;
+		} finally {
+			syncLock.unlock();
+		}
+	}
+
+	// The failures cached data can stand in for: the API is unreachable, fails,
+	// or is spared by the circuit breaker or bulkhead
+	private static boolean isUnavailable(RuntimeException ex) {
+		return ex instanceof RetryableException || ex instanceof FeignException.FeignServerException
+				|| ex instanceof CallNotPermittedException || ex instanceof BulkheadFullException;
+	}
+
+	private boolean isFresh(Synced current) {
+		return current != null && current.writes() == writes.get()
+				&& System.nanoTime() - current.syncedAt() < freshForNanos;
+	}
+
+	private boolean isFresh(Validated<?> cached) {
+		return cached != null && System.nanoTime() - cached.fetchedAt() < freshForNanos;
+	}
+
+	private String etagOf(Validated<?> cached) {
+		return cached == null || !revalidate ? null : cached.etag();
+	}
+
+	// The snapshot with the System.nanoTime() it was last synced at and the
+	// number of writes made through this service before that sync
+	private record Synced(EmployeeSnapshot snapshot, long syncedAt, long writes) {
+	}
+
+	// The request parameters identifying one page
+	private record PageKey(String sort, String after, String before, int size) {
+	}
+
+	// A response body with its ETag and the System.nanoTime() it was last confirmed at
+	private record Validated<T>(String etag, T body, long fetchedAt) {
+
+		// A body returned by a write, which carries no ETag
+		static <T> Validated<T> written(T body) {
+			return new Validated<>(null, body, System.nanoTime());
+		}
+
+		Validated<T> revalidated() {
+			return new Validated<>(etag, body, System.nanoTime());
+		}
+	}
+
+}
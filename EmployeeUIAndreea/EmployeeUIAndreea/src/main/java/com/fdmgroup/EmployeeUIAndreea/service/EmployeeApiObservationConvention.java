@@ -0,0 +1,34 @@
+package com.fdmgroup.EmployeeUIAndreea.service;
+
+import feign.MethodMetadata;
+import feign.micrometer.DefaultFeignObservationConvention;
+import feign.micrometer.FeignContext;
+import io.micrometer.common.KeyValues;
+
+/**
+ * Names Feign call observations {@value #NAME} and, on top of the HTTP method,
+ * status and URI template, tags them with the Feign client and the interface
+ * method that was called, so each call of {@link FeignClientEmployeeService}
+ * gets its own timer.
+ */
+public class EmployeeApiObservationConvention extends DefaultFeignObservationConvention {
+
+	public static final String NAME = "employee.api.client";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(FeignContext context) {
+		KeyValues keyValues = super.getLowCardinalityKeyValues(context);
+		MethodMetadata metadata = context.getCarrier().requestTemplate().methodMetadata();
+		if (metadata == null) {
+			return keyValues.and("client", "unknown", "operation", "unknown");
+		}
+		return keyValues.and("client", metadata.targetType().getSimpleName(), "operation",
+				metadata.method().getName());
+	}
+
+}
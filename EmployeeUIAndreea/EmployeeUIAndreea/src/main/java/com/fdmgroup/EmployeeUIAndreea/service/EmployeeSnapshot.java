@@ -0,0 +1,164 @@
+package com.fdmgroup.EmployeeUIAndreea.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+import com.fdmgroup.EmployeeUIAndreea.model.Employee;
+import com.fdmgroup.EmployeeUIAndreea.model.EmployeeDelta;
+import com.fdmgroup.EmployeeUIAndreea.model.EmployeePage;
+
+/**
+ * A local copy of all employees, indexed by ID and by (last name, ID), from
+ * which {@link ConditionalEmployeeService} cuts keyset pages without calling
+ * the API. Pages come in the same orders and with the same cursors as the
+ * API's. The copy is kept up to date by merging {@link EmployeeDelta}s in
+ * place; a page read during a merge may show some of its changes and not
+ * others.
+ */
+final class EmployeeSnapshot {
+
+	private static final String SORT_BY_LAST_NAME = "lastName";
+
+	private final ConcurrentSkipListMap<Long, Employee> byId = new ConcurrentSkipListMap<>();
+	private final ConcurrentSkipListMap<NameKey, Employee> byLastName = new ConcurrentSkipListMap<>();
+	private volatile long token;
+
+	/**
+	 * @param delta a full delta
+	 * @return a snapshot holding the employees of the delta
+	 */
+	static EmployeeSnapshot of(EmployeeDelta delta) {
+		EmployeeSnapshot snapshot = new EmployeeSnapshot();
+		snapshot.merge(delta);
+		return snapshot;
+	}
+
+	/**
+	 * @return the sync token of the last delta merged
+	 */
+	long token() {
+		return token;
+	}
+
+	/**
+	 * Applies a delta: its employees replace those with the same ID and its
+	 * deleted IDs are removed. Must not be called concurrently.
+	 *
+	 * @param delta a delta following the last one merged
+	 */
+	void merge(EmployeeDelta delta) {
+		for (Employee employee : delta.employees()) {
+			remove(employee.getId());
+			byId.put(employee.getId(), employee);
+			byLastName.put(NameKey.of(employee), employee);
+		}
+		for (Long id : delta.deleted()) {
+			remove(id);
+		}
+		token = delta.token();
+	}
+
+	/**
+	 * Cuts one keyset page, as {@code GET /api/v1/employees} would return it.
+	 * A malformed cursor is read as no cursor.
+	 *
+	 * @param sort   the order of the employees, {@code id} or {@code lastName}
+	 * @param after  the cursor after which the page starts, or null
+	 * @param before the cursor before which the page ends, or null
+	 * @param size   the maximum number of employees in the page
+	 * @return the page, with the cursors of its neighbours
+	 */
+	EmployeePage page(String sort, String after, String before, int size) {
+		if (SORT_BY_LAST_NAME.equals(sort)) {
+			return page(byLastName, NameKey.parse(after), NameKey.parse(before), size, NameKey::of,
+					employee -> NameKey.of(employee).cursor());
+		}
+		return page(byId, parseId(after), parseId(before), size, Employee::getId,
+				employee -> String.valueOf(employee.getId()));
+	}
+
+	private void remove(long id) {
+		Employee removed = byId.remove(id);
+		if (removed != null) {
+			byLastName.remove(NameKey.of(removed));
+		}
+	}
+
+	private static <K> EmployeePage page(NavigableMap<K, Employee> index, K after, K before, int size,
+			Function<Employee, K> keyOf, Function<Employee, String> cursorOf) {
+		NavigableMap<K, Employee> range = before != null ? index.headMap(before, false).descendingMap()
+				: after != null ? index.tailMap(after, false) : index;
+		List<Employee> employees = new ArrayList<>(size);
+		for (Employee employee : range.values()) {
+			if (employees.size() == size) {
+				break;
+			}
+			employees.add(employee);
+		}
+		if (employees.isEmpty()) {
+			return new EmployeePage(employees, null, null);
+		}
+		if (before != null) {
+			Collections.reverse(employees);
+		}
+		Employee first = employees.get(0);
+		Employee last = employees.get(employees.size() - 1);
+		// Unlike the API, which only knows whether a page is full, the
+		// snapshot knows whether there is anything beyond either edge
+		return new EmployeePage(employees,
+				index.higherKey(keyOf.apply(last)) != null ? cursorOf.apply(last) : null,
+				index.lowerKey(keyOf.apply(first)) != null ? cursorOf.apply(first) : null);
+	}
+
+	private static Long parseId(String cursor) {
+		try {
+			return cursor == null ? null : Long.valueOf(cursor);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	// The (lastName, id) key of the lastName order; its cursor is the
+	// URL-safe Base64 of "id:lastName", as produced by the API
+	private record NameKey(String lastName, long id) implements Comparable<NameKey> {
+
+		private static final Comparator<NameKey> ORDER = Comparator
+				.comparing(NameKey::lastName, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+				.thenComparingLong(NameKey::id);
+
+		static NameKey of(Employee employee) {
+			return new NameKey(employee.getLastName(), employee.getId());
+		}
+
+		static NameKey parse(String cursor) {
+			if (cursor == null) {
+				return null;
+			}
+			try {
+				String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+				int colon = key.indexOf(':');
+				return new NameKey(key.substring(colon + 1), Long.parseLong(key.substring(0, colon)));
+			} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+				return null;
+			}
+		}
+
+		String cursor() {
+			String key = id + ":" + lastName;
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public int compareTo(NameKey other) {
+			return ORDER.compare(this, other);
+		}
+	}
+
+}
@@ -4,15 +4,20 @@ import java.util.List;
 
 import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 //import org.springframework.data.jpa.repository.Query;
 
 import com.fdmgroup.EmployeeUIAndreea.model.Employee;
+import com.fdmgroup.EmployeeUIAndreea.model.EmployeeDelta;
 
 
 
@@ -20,11 +25,39 @@ import com.fdmgroup.EmployeeUIAndreea.model.Employee;
 @LoadBalancerClient(name = "EMPLOYEE-API")
 public interface FeignClientEmployeeService {
 
+	@GetMapping("/{id}")
+	public Employee getById(@PathVariable(value = "id") long id);
+
+	/**
+	 * One keyset page of employees in the given order ({@code id} or
+	 * {@code lastName}), starting after or ending before a cursor; the cursors
+	 * of the neighbouring pages come back in the {@code X-Next-Cursor} and
+	 * {@code X-Prev-Cursor} headers. Throws {@code NotModifiedException} when
+	 * the given ETag is still current.
+	 */
 	@GetMapping
-	public List<Employee> getAllEmployees();
+	public ResponseEntity<List<Employee>> getEmployeePage(@RequestParam(value = "limit") int limit,
+			@RequestParam(value = "sort") String sort,
+			@RequestParam(value = "after", required = false) String after,
+			@RequestParam(value = "before", required = false) String before,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 
+	/**
+	 * What changed in the employees since the token of a previous delta: the
+	 * employees created or updated and the IDs of those deleted. Token 0, or a
+	 * token the API can no longer serve a delta for, returns all employees as a
+	 * full delta.
+	 */
+	@GetMapping
+	public EmployeeDelta getEmployeesModifiedSince(@RequestParam(value = "modifiedSince") long modifiedSince);
+
+	/**
+	 * Conditional variant of {@link #getById(long)}. Throws
+	 * {@code NotModifiedException} when the given ETag is still current.
+	 */
 	@GetMapping("/{id}")
-	public Employee getById(@PathVariable(value = "id") long id);
+	public ResponseEntity<Employee> getById(@PathVariable(value = "id") long id,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 
 	@PostMapping
 	public Employee createEmployee(@RequestBody Employee employee);
@@ -36,7 +69,7 @@ public interface FeignClientEmployeeService {
 	public void deleteEmployee(@PathVariable(value = "id") long id);
 
 	@GetMapping("/search-employees")
-	List<Employee> findByFullNameContainsIgnoreCase(String searchTerm);
+	List<Employee> findByFullNameContainsIgnoreCase(@RequestParam(value = "searchTerm") String searchTerm);
 	
 	
 }
\ No newline at end of file
@@ -0,0 +1,188 @@
+package com.fdmgroup.EmployeeUIAndreea.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Feign client sending hedged GETs: the request goes to an instance chosen by
+ * the load balancer, and if no answer has come after the hedge delay the same
+ * request goes to another instance, picked at random among those the load
+ * balancer lists. The first answer is returned and the other is closed when it
+ * arrives. Picking the second instance outside the load balancer keeps hedges
+ * from shifting its choice of first instances. Other methods, and GETs while the load
+ * balancer offers a single instance, are sent once through the load-balancing
+ * client. The requests run on the given executor; when it rejects the first
+ * request, the call is sent once from the calling thread, and when it rejects
+ * the second, the call waits for the first answer alone.
+ * <p>
+ * {@code employee.api.hedges} counts the second requests sent and
+ * {@code employee.api.hedges.won} those that answered first.
+ */
+final class HedgingClient implements Client {
+
+	private static final Duration INSTANCES_TIMEOUT = Duration.ofSeconds(1);
+
+	private final Client loadBalanced;
+	private final Client direct;
+	private final LoadBalancerClient loadBalancer;
+	private final LoadBalancerClientFactory loadBalancers;
+	private final long delayNanos;
+	private final Executor executor;
+	private final Counter hedges;
+	private final Counter hedgesWon;
+
+	/**
+	 * @param loadBalanced  the load-balancing client, for the requests not hedged
+	 * @param direct        the client it delegates to, for requests to a chosen
+	 *                      instance
+	 * @param loadBalancer  chooses the first instances
+	 * @param loadBalancers lists the instances to hedge to
+	 * @param delay         how long to wait for the first answer before hedging
+	 * @param executor      runs the requests, two per hedged call at most, and
+	 *                      may reject them
+	 * @param registry      the registry of the hedging counters
+	 */
+	HedgingClient(Client loadBalanced, Client direct, LoadBalancerClient loadBalancer,
+			LoadBalancerClientFactory loadBalancers, Duration delay, Executor executor, MeterRegistry registry) {
+		super();
+		this.loadBalanced = loadBalanced;
+		this.direct = direct;
+		this.loadBalancer = loadBalancer;
+		this.loadBalancers = loadBalancers;
+		this.delayNanos = delay.toNanos();
+		this.executor = executor;
+		this.hedges = registry.counter("employee.api.hedges");
+		this.hedgesWon = registry.counter("employee.api.hedges.won");
+	}
+
+	@Override
+	public Response execute(Request request, Request.Options options) throws IOException {
+		if (request.httpMethod() != Request.HttpMethod.GET) {
+			return loadBalanced.execute(request, options);
+		}
+		URI uri = URI.create(request.url());
+		String serviceId = uri.getHost();
+		ServiceInstance first = loadBalancer.choose(serviceId);
+		if (first == null) {
+			// Leaves the 503 for a service without instances to the load balancer
+			return loadBalanced.execute(request, options);
+		}
+		Request firstRequest = to(first, uri, request);
+		Attempts attempts = new Attempts();
+		if (!attempts.send(firstRequest, options, false)) {
+			return direct.execute(firstRequest, options);
+		}
+		try {
+			return attempts.answer.get(delayNanos, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			ServiceInstance second = chooseOther(serviceId, first);
+			if (second != null && attempts.send(to(second, uri, request), options, true)) {
+				hedges.increment();
+			}
+			return await(attempts.answer);
+		} catch (InterruptedException | ExecutionException e) {
+			return rethrow(e);
+		}
+	}
+
+	private ServiceInstance chooseOther(String serviceId, ServiceInstance first) {
+		ServiceInstanceListSupplier supplier = loadBalancers.getInstance(serviceId, ServiceInstanceListSupplier.class);
+		List<ServiceInstance> instances = supplier == null ? null : supplier.get().blockFirst(INSTANCES_TIMEOUT);
+		if (instances == null) {
+			return null;
+		}
+		List<ServiceInstance> others = instances.stream()
+				.filter(instance -> !Objects.equals(instance.getHost(), first.getHost())
+						|| instance.getPort() != first.getPort())
+				.toList();
+		return others.isEmpty() ? null : others.get(ThreadLocalRandom.current().nextInt(others.size()));
+	}
+
+	private Request to(ServiceInstance instance, URI uri, Request request) {
+		return Request.create(request.httpMethod(), loadBalancer.reconstructURI(instance, uri).toString(),
+				request.headers(), request.body(), request.charset(), request.requestTemplate());
+	}
+
+	private static Response await(CompletableFuture<Response> answer) throws IOException {
+		try {
+			// Each request is bounded by the read timeout of the options
+			return answer.get();
+		} catch (InterruptedException | ExecutionException e) {
+			return rethrow(e);
+		}
+	}
+
+	private static Response rethrow(Exception e) throws IOException {
+		if (e instanceof InterruptedException) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for the employee API");
+		}
+		Throwable cause = e.getCause();
+		if (cause instanceof IOException io) {
+			throw io;
+		}
+		if (cause instanceof RuntimeException runtime) {
+			throw runtime;
+		}
+		throw new IOException(cause);
+	}
+
+	// The requests of one hedged call; the answer completes with the first
+	// response, or with the failure of the last request to fail
+	private final class Attempts {
+
+		private final CompletableFuture<Response> answer = new CompletableFuture<>();
+		private final AtomicInteger pending = new AtomicInteger();
+
+		// Returns false, and sends nothing, when the executor is full
+		boolean send(Request request, Request.Options options, boolean hedge) {
+			pending.incrementAndGet();
+			try {
+				executor.execute(() -> run(request, options, hedge));
+				return true;
+			} catch (RejectedExecutionException e) {
+				pending.decrementAndGet();
+				return false;
+			}
+		}
+
+		private void run(Request request, Request.Options options, boolean hedge) {
+			try {
+				Response response = direct.execute(request, options);
+				if (!answer.complete(response)) {
+					response.close();
+				} else if (hedge) {
+					hedgesWon.increment();
+				}
+			} catch (IOException | RuntimeException e) {
+				if (pending.decrementAndGet() == 0) {
+					answer.completeExceptionally(e);
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.fdmgroup.EmployeeUIAndreea.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+import feign.Capability;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+
+/**
+ * Per-method connect and read timeouts for Feign calls, overriding the
+ * client-wide {@code spring.cloud.openfeign.client.config.*} timeouts for the
+ * interface methods listed under {@code employee.api.feign.connect-timeout}
+ * and {@code employee.api.feign.read-timeout}, keyed by method name (for
+ * example {@code employee.api.feign.read-timeout.getEmployeesModifiedSince=10s}).
+ */
+public class MethodTimeoutsCapability implements Capability {
+
+	private static final String PREFIX = "employee.api.feign.";
+
+	private final Map<String, Duration> connectTimeouts;
+	private final Map<String, Duration> readTimeouts;
+
+	public MethodTimeoutsCapability(Map<String, Duration> connectTimeouts, Map<String, Duration> readTimeouts) {
+		super();
+		this.connectTimeouts = Map.copyOf(connectTimeouts);
+		this.readTimeouts = Map.copyOf(readTimeouts);
+	}
+
+	/**
+	 * Reads the timeouts from the {@code employee.api.feign.*} properties.
+	 *
+	 * @param environment the environment to bind from
+	 * @return the capability, with no overrides if none are configured
+	 */
+	public static MethodTimeoutsCapability from(Environment environment) {
+		Binder binder = Binder.get(environment);
+		Bindable<Map<String, Duration>> timeouts = Bindable.mapOf(String.class, Duration.class);
+		return new MethodTimeoutsCapability(binder.bind(PREFIX + "connect-timeout", timeouts).orElse(Map.of()),
+				binder.bind(PREFIX + "read-timeout", timeouts).orElse(Map.of()));
+	}
+
+	@Override
+	public Client enrich(Client client) {
+		if (connectTimeouts.isEmpty() && readTimeouts.isEmpty()) {
+			return client;
+		}
+		return (request, options) -> client.execute(request, optionsFor(request, options));
+	}
+
+	private Request.Options optionsFor(Request request, Request.Options options) {
+		MethodMetadata metadata = request.requestTemplate().methodMetadata();
+		if (metadata == null) {
+			return options;
+		}
+		String method = metadata.method().getName();
+		Duration connectTimeout = connectTimeouts.get(method);
+		Duration readTimeout = readTimeouts.get(method);
+		if (connectTimeout == null && readTimeout == null) {
+			return options;
+		}
+		return new Request.Options(
+				connectTimeout != null ? connectTimeout.toMillis() : options.connectTimeoutMillis(), TimeUnit.MILLISECONDS,
+				readTimeout != null ? readTimeout.toMillis() : options.readTimeoutMillis(), TimeUnit.MILLISECONDS,
+				options.isFollowRedirects());
+	}
+
+}
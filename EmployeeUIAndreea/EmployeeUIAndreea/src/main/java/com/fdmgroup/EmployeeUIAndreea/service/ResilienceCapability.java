@@ -0,0 +1,171 @@
+package com.fdmgroup.EmployeeUIAndreea.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+import org.springframework.core.Ordered;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.functions.CheckedSupplier;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Guards Feign calls to the employee API with the resilience4j instances named
+ * {@value #NAME}, configured under {@code resilience4j.*.instances.employee-api}.
+ * A semaphore bulkhead caps the calls in flight, so a slow API holds at most
+ * that many request threads. A circuit breaker, tripped by failures and slow
+ * calls, then rejects calls at once until the API recovers. GETs, being
+ * idempotent, are retried with randomized exponential backoff on the
+ * exceptions listed in the retry configuration and on 502, 503 and 504
+ * answers. Rejected calls throw {@code BulkheadFullException} or
+ * {@code CallNotPermittedException}, which {@link ConditionalEmployeeService}
+ * answers from its cache.
+ * <p>
+ * With a hedge delay, GETs are also hedged to a second instance by a
+ * {@link HedgingClient}, within one bulkhead slot and circuit breaker call.
+ * Its requests run on a pool of at most two threads per bulkhead slot, without
+ * a queue; a hedge that finds the pool full is not sent.
+ * <p>
+ * The capability is ordered first, so it wraps the load-balancing client
+ * directly and the other capabilities see one call per Feign invocation.
+ */
+public class ResilienceCapability implements Capability, Ordered, DisposableBean {
+
+	/** The name of the resilience4j instances guarding the employee API. */
+	public static final String NAME = "employee-api";
+
+	private final CircuitBreaker circuitBreaker;
+	private final Bulkhead bulkhead;
+	private final Retry retry;
+	private final LoadBalancerClient loadBalancer;
+	private final LoadBalancerClientFactory loadBalancers;
+	private final Duration hedgeDelay;
+	private final MeterRegistry registry;
+	private final ExecutorService hedgeExecutor;
+
+	/**
+	 * @param circuitBreaker the circuit breaker of every call
+	 * @param bulkhead       the bulkhead of every call
+	 * @param retry          the retry of GETs
+	 * @param loadBalancer   chooses the first instance of hedged GETs
+	 * @param loadBalancers  lists the instances to hedge to
+	 * @param hedgeDelay     how long a GET waits before it is hedged, or null
+	 *                       not to hedge
+	 * @param registry       the registry of the hedging counters
+	 */
+	public ResilienceCapability(CircuitBreaker circuitBreaker, Bulkhead bulkhead, Retry retry,
+			LoadBalancerClient loadBalancer, LoadBalancerClientFactory loadBalancers, Duration hedgeDelay,
+			MeterRegistry registry) {
+		super();
+		this.circuitBreaker = circuitBreaker;
+		this.bulkhead = bulkhead;
+		this.retry = retry;
+		this.loadBalancer = loadBalancer;
+		this.loadBalancers = loadBalancers;
+		this.hedgeDelay = hedgeDelay;
+		this.registry = registry;
+		this.hedgeExecutor = hedgeDelay == null ? null
+				: new ThreadPoolExecutor(0, 2 * bulkhead.getBulkheadConfig().getMaxConcurrentCalls(), 60,
+						TimeUnit.SECONDS, new SynchronousQueue<>(), new HedgeThreadFactory());
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+	@Override
+	public Client enrich(Client client) {
+		Client target = client;
+		if (hedgeDelay != null && client instanceof FeignBlockingLoadBalancerClient loadBalanced) {
+			target = new HedgingClient(client, loadBalanced.getDelegate(), loadBalancer, loadBalancers, hedgeDelay,
+					hedgeExecutor, registry);
+		}
+		Client guarded = target;
+		return (request, options) -> execute(guarded, request, options);
+	}
+
+	@Override
+	public void destroy() {
+		if (hedgeExecutor != null) {
+			hedgeExecutor.shutdownNow();
+		}
+	}
+
+	private Response execute(Client client, Request request, Request.Options options) throws IOException {
+		CheckedSupplier<Response> call = () -> failOnUnavailable(client.execute(request, options));
+		call = Bulkhead.decorateCheckedSupplier(bulkhead, call);
+		call = CircuitBreaker.decorateCheckedSupplier(circuitBreaker, call);
+		if (request.httpMethod() == Request.HttpMethod.GET) {
+			call = Retry.decorateCheckedSupplier(retry, call);
+		}
+		try {
+			return call.get();
+		} catch (UnavailableResponse e) {
+			// Left to the error decoder, like any other error status
+			return e.response;
+		} catch (IOException | RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// Turns the statuses of an overloaded or unreachable API into a failure, so
+	// that they count against the circuit breaker and are retried
+	private static Response failOnUnavailable(Response response) throws IOException {
+		int status = response.status();
+		if (status != 502 && status != 503 && status != 504) {
+			return response;
+		}
+		// The body is read now, as the response outlives its connection when
+		// the call is retried
+		try (response) {
+			byte[] body = response.body() == null ? null : Util.toByteArray(response.body().asInputStream());
+			throw new UnavailableResponse(response.toBuilder().body(body).build());
+		}
+	}
+
+	// A 502, 503 or 504 answer, thrown through the retry and circuit breaker
+	private static final class UnavailableResponse extends IOException {
+
+		private static final long serialVersionUID = 4412870216513045263L;
+
+		private final transient Response response;
+
+		UnavailableResponse(Response response) {
+			super("Employee API answered " + response.status());
+			this.response = response;
+		}
+	}
+
+	private static final class HedgeThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable task) {
+			Thread thread = new Thread(task, "employee-api-hedge-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+}
@@ -1,70 +1,123 @@
 package com.fdmgroup.EmployeeUIAndreea.service;
 
-import java.util.List;
+import java.time.Duration;
+import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.fdmgroup.EmployeeUIAndreea.exception.WebClientExceptionFilter;
 import com.fdmgroup.EmployeeUIAndreea.model.Employee;
+import com.fdmgroup.EmployeeUIAndreea.model.EmployeePage;
 
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
-
+/**
+ * Non-blocking client for the employee API. Every call returns a
+ * {@link Flux} or {@link Mono} and nothing happens until it is subscribed to;
+ * the I/O runs on Reactor Netty's event loop, not on the caller's thread.
+ * <p>
+ * Requests go to the {@code EMPLOYEE-API} service through the discovery
+ * registry and the load balancer, over a bounded connection pool with connect
+ * and response timeouts ({@code employee.api.webclient.*}).
+ */
 @Service
 public class WebClientEmployeeService {
-	private static final String BASE_URL = "http://localhost:8088/api/v1/employees";
+	private static final String BASE_URL = "http://EMPLOYEE-API/api/v1/employees";
+	private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+	private static final String PREV_CURSOR_HEADER = "X-Prev-Cursor";
+	private final ConnectionProvider connectionProvider;
 	private final WebClient webClient;
-	
-	public WebClientEmployeeService(WebClient.Builder builder) {
+
+	public WebClientEmployeeService(WebClient.Builder builder, LoadBalancedExchangeFilterFunction loadBalancer,
+			@Value("${employee.api.webclient.max-connections:100}") int maxConnections,
+			@Value("${employee.api.webclient.pending-acquire-timeout:5s}") Duration pendingAcquireTimeout,
+			@Value("${employee.api.webclient.max-idle-time:30s}") Duration maxIdleTime,
+			@Value("${employee.api.webclient.connect-timeout:2s}") Duration connectTimeout,
+			@Value("${employee.api.webclient.response-timeout:5s}") Duration responseTimeout) {
 		super();
+		this.connectionProvider = ConnectionProvider.builder("employee-api")
+				.maxConnections(maxConnections)
+				.pendingAcquireTimeout(pendingAcquireTimeout)
+				.maxIdleTime(maxIdleTime)
+				.evictInBackground(maxIdleTime)
+				.metrics(true)
+				.build();
+		HttpClient httpClient = HttpClient.create(connectionProvider)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+				.responseTimeout(responseTimeout);
 		this.webClient = builder
 				.baseUrl(BASE_URL)
+				.clientConnector(new ReactorClientHttpConnector(httpClient))
+				.filter(loadBalancer)
 				.filter(ExchangeFilterFunction.ofResponseProcessor(WebClientExceptionFilter::filterFunction))
 				.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
 				.build();
 	}
-	
-	public List<Employee> getAllEmployees() {
+
+	/**
+	 * One keyset page of employees in the given order ({@code id} or
+	 * {@code lastName}), starting after or ending before a cursor, with the
+	 * cursors of the neighbouring pages from the {@code X-Next-Cursor} and
+	 * {@code X-Prev-Cursor} headers.
+	 */
+	public Mono<EmployeePage> getPage(int limit, String sort, String after, String before) {
 		return webClient.get() // everything before the .retrieve() defines the request
+				.uri(builder -> builder.queryParam("limit", limit)
+						.queryParam("sort", sort)
+						.queryParamIfPresent("after", Optional.ofNullable(after))
+						.queryParamIfPresent("before", Optional.ofNullable(before))
+						.build())
 				.retrieve()	   // everything after the .retrieve() defines how we want to process the request
-				.bodyToFlux(Employee.class) // represents 1..n potential values
-				.collectList()
-				.block();
+				.toEntityList(Employee.class)
+				.map(response -> new EmployeePage(response.getBody(),
+						response.getHeaders().getFirst(NEXT_CURSOR_HEADER),
+						response.getHeaders().getFirst(PREV_CURSOR_HEADER)));
 	}
-	
-	public Employee createEmployee(Employee employee) {
+
+	public Mono<Employee> createEmployee(Employee employee) {
 		return webClient.post()
 				.bodyValue(employee)
 				.retrieve()
-				.bodyToMono(Employee.class)
-				.block();
+				.bodyToMono(Employee.class);
 	}
-	
-	public Employee getById(int id) {
+
+	public Mono<Employee> getById(long id) {
 		return webClient.get()
 				.uri(builder -> builder.path("/{id}").build(id))
 				.retrieve()
-				.bodyToMono(Employee.class)
-				.block();
+				.bodyToMono(Employee.class);
 	}
-	
-	public Employee updateEmployee(int id, Employee employee) {
+
+	public Mono<Employee> updateEmployee(long id, Employee employee) {
 		return webClient.put()
 				.uri(builder -> builder.path("/{id}").build(id))
 				.bodyValue(employee)
 				.retrieve()
-				.bodyToMono(Employee.class)
-				.block();
+				.bodyToMono(Employee.class);
 	}
-	
-	public void deleteEmployeeById(int id) {
-		webClient.delete()
+
+	public Mono<Void> deleteEmployeeById(long id) {
+		return webClient.delete()
 			.uri(builder -> builder.path("/{id}").build(id))
 			.retrieve()
 			.toBodilessEntity()
-			.block();
+			.then();
+	}
+
+	@PreDestroy
+	public void close() {
+		connectionProvider.dispose();
 	}
 }
@@ -0,0 +1,75 @@
+package com.fdmgroup.EmployeeUIAndreea;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fdmgroup.EmployeeUIAndreea.service.EmployeeApiObservationConvention;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Checks that the page rendered, the reader and the Feign calls to the API
+ * behind it are measured, as is the Feign connection pool, and that the meters
+ * are published at {@code /actuator/prometheus}.
+ */
+@SpringBootTest(properties = "eureka.client.enabled=false")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsTests {
+
+	private static final StubEmployeeApi api = StubEmployeeApi.start();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@DynamicPropertySource
+	static void employeeApi(DynamicPropertyRegistry registry) {
+		registry.add("spring.cloud.discovery.client.simple.instances.EMPLOYEE-API[0].uri", api::url);
+	}
+
+	@AfterAll
+	static void stopApi() {
+		api.close();
+	}
+
+	@Test
+	void callsAreMeasuredAndPublished() throws Exception {
+		api.answer("GET", "/api/v1/employees/1", 200, """
+				{"id":1,"firstName":"Ioana","lastName":"Popescu","salary":50000,"province":"Kent","country":"England"}""",
+				"ETag", "\"1-0\"");
+
+		mockMvc.perform(get("/showEmployee").param("id", "1")).andExpect(status().isOk());
+
+		assertNotNull(meterRegistry.find("http.server.requests").tag("uri", "/showEmployee").timer());
+		assertNotNull(meterRegistry.find("employee.reader").tag("method", "getById").timer());
+		assertNotNull(meterRegistry.find(EmployeeApiObservationConvention.NAME)
+				.tag("client", "FeignClientEmployeeService")
+				.tag("operation", "getById").tag("http.status_code", "200").timer());
+		assertNotNull(meterRegistry.find("httpcomponents.httpclient.pool.total.max").tag("httpclient", "employee-api")
+				.gauge());
+
+		String scrape = mockMvc.perform(get("/actuator/prometheus"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		for (String name : new String[] { "http_server_requests_seconds_bucket", "employee_reader_seconds{",
+				"employee_api_client_seconds_bucket", "httpcomponents_httpclient_pool_total_max" }) {
+			assertTrue(scrape.contains(name), name);
+		}
+	}
+
+}
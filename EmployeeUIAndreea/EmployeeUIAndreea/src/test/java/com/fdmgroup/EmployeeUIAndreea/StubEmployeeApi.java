@@ -0,0 +1,139 @@
+package com.fdmgroup.EmployeeUIAndreea;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Stands in for the employee API on a local port. Answers are set per method
+ * and path, ignoring the query string, and every request is recorded; requests
+ * without an answer get 404. Answers with a {@code Content-Encoding: gzip}
+ * header are sent gzipped, and every answer can be delayed to play a slow API.
+ */
+public final class StubEmployeeApi implements AutoCloseable {
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final Map<String, Answer> answers = new ConcurrentHashMap<>();
+	private final List<Request> requests = new CopyOnWriteArrayList<>();
+	private volatile Duration delay = Duration.ZERO;
+
+	private StubEmployeeApi(HttpServer server) {
+		this.server = server;
+	}
+
+	public static StubEmployeeApi start() {
+		try {
+			HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			StubEmployeeApi api = new StubEmployeeApi(server);
+			server.createContext("/", api::handle);
+			server.setExecutor(api.executor);
+			server.start();
+			return api;
+		} catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	public String url() {
+		return "http://localhost:" + server.getAddress().getPort();
+	}
+
+	/**
+	 * Answers requests to the path with the status, JSON body and headers,
+	 * given as name and value pairs.
+	 */
+	public void answer(String method, String path, int status, String json, String... headers) {
+		answers.put(method + " " + path, new Answer(status, json, headers));
+	}
+
+	/**
+	 * Delays every answer from now on.
+	 */
+	public void delay(Duration delay) {
+		this.delay = delay;
+	}
+
+	public List<Request> requests() {
+		return requests;
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange; InputStream in = exchange.getRequestBody()) {
+			String method = exchange.getRequestMethod();
+			requests.add(new Request(method, exchange.getRequestURI().toString(), exchange.getRequestHeaders(),
+					new String(in.readAllBytes(), StandardCharsets.UTF_8), exchange.getRemoteAddress().getPort()));
+			Answer answer = answers.get(method + " " + exchange.getRequestURI().getPath());
+			sleep(delay);
+			if (answer == null) {
+				exchange.sendResponseHeaders(404, -1);
+				return;
+			}
+			byte[] body = answer.json() == null ? new byte[0] : answer.json().getBytes(StandardCharsets.UTF_8);
+			if (body.length > 0) {
+				exchange.getResponseHeaders().set("Content-Type", "application/json");
+			}
+			for (int i = 0; i + 1 < answer.headers().length; i += 2) {
+				exchange.getResponseHeaders().add(answer.headers()[i], answer.headers()[i + 1]);
+			}
+			if ("gzip".equals(exchange.getResponseHeaders().getFirst("Content-Encoding"))) {
+				body = gzip(body);
+			}
+			exchange.sendResponseHeaders(answer.status(), body.length == 0 ? -1 : body.length);
+			if (body.length > 0) {
+				try (OutputStream out = exchange.getResponseBody()) {
+					out.write(body);
+				}
+			}
+		}
+	}
+
+	private static void sleep(Duration delay) throws IOException {
+		try {
+			Thread.sleep(delay.toMillis());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IOException(ex);
+		}
+	}
+
+	private static byte[] gzip(byte[] body) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream out = new GZIPOutputStream(bytes)) {
+			out.write(body);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * A request received by the stub, with its URI including the query string
+	 * and the port of the client's end of the connection.
+	 */
+	public record Request(String method, String uri, Headers headers, String body, int clientPort) {
+	}
+
+	private record Answer(int status, String json, String[] headers) {
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.fdmgroup.EmployeeUIAndreea.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fdmgroup.EmployeeUIAndreea.StubEmployeeApi;
+
+/**
+ * Checks what the pages show while the employee API fails or is slow: cached
+ * employees keep rendering, and pages with nothing cached explain the outage.
+ * Nothing is ever fresh, so every page calls the API, and the bulkhead lets
+ * one call through at a time.
+ */
+@SpringBootTest(properties = { "eureka.client.enabled=false",
+		"employee.ui.cache.fresh-for=0s",
+		"resilience4j.bulkhead.instances.employee-api.max-concurrent-calls=1",
+		"resilience4j.bulkhead.instances.employee-api.max-wait-duration=0",
+		"resilience4j.retry.instances.employee-api.wait-duration=10ms" })
+@AutoConfigureMockMvc
+class EmployeeApiOutageTests {
+
+	private static final StubEmployeeApi api = StubEmployeeApi.start();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@DynamicPropertySource
+	static void employeeApi(DynamicPropertyRegistry registry) {
+		registry.add("spring.cloud.discovery.client.simple.instances.EMPLOYEE-API[0].uri", api::url);
+	}
+
+	@AfterAll
+	static void stopApi() {
+		api.close();
+	}
+
+	@BeforeEach
+	void clearRequests() {
+		api.requests().clear();
+	}
+
+	@AfterEach
+	void speedUp() {
+		api.delay(Duration.ZERO);
+	}
+
+	@Test
+	void cachedEmployeeIsShownWhileTheApiFails() throws Exception {
+		api.answer("GET", "/api/v1/employees/1", 200, """
+				{"id":1,"firstName":"Ioana","lastName":"Popescu","salary":50000,"province":"Kent","country":"England"}""");
+		mockMvc.perform(get("/showEmployee").param("id", "1")).andExpect(status().isOk());
+		api.answer("GET", "/api/v1/employees/1", 503, null);
+		api.requests().clear();
+
+		mockMvc.perform(get("/showEmployee").param("id", "1"))
+				.andExpect(status().isOk())
+				.andExpect(view().name("show-employee"))
+				.andExpect(content().string(containsString("Popescu")));
+		assertEquals(3, api.requests().size(), "the GET is retried");
+	}
+
+	@Test
+	void failureWithNothingCachedIsShownAsBadGateway() throws Exception {
+		api.answer("GET", "/api/v1/employees/2", 500, null);
+
+		mockMvc.perform(get("/showEmployee").param("id", "2"))
+				.andExpect(status().isBadGateway())
+				.andExpect(view().name("error-page"))
+				.andExpect(content().string(containsString("The employee service failed")));
+	}
+
+	@Test
+	void callBeyondTheBulkheadIsShownAsUnavailable() throws Exception {
+		api.answer("GET", "/api/v1/employees/3", 200, """
+				{"id":3,"firstName":"Elena","lastName":"Dascalu","salary":50000,"province":"Iasi","country":"Romania"}""");
+		api.delay(Duration.ofSeconds(1));
+		CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> {
+			try {
+				mockMvc.perform(get("/showEmployee").param("id", "3")).andExpect(status().isOk());
+			} catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		while (api.requests().isEmpty()) {
+			Thread.sleep(10);
+		}
+
+		mockMvc.perform(get("/showEmployee").param("id", "4"))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(content().string(containsString("unavailable")));
+		slow.join();
+	}
+
+}
@@ -0,0 +1,129 @@
+package com.fdmgroup.EmployeeUIAndreea.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fdmgroup.EmployeeUIAndreea.StubEmployeeApi;
+
+/**
+ * Checks the pages of {@link EmployeeController} against a stub of the
+ * employee API: list pages pass their cursors on and link to their
+ * neighbours, writes redirect once the API has answered, and a failed write is
+ * shown to the user.
+ */
+@SpringBootTest(properties = "eureka.client.enabled=false")
+@AutoConfigureMockMvc
+class EmployeeControllerTests {
+
+	private static final StubEmployeeApi api = StubEmployeeApi.start();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@DynamicPropertySource
+	static void employeeApi(DynamicPropertyRegistry registry) {
+		registry.add("spring.cloud.discovery.client.simple.instances.EMPLOYEE-API[0].uri", api::url);
+	}
+
+	@AfterAll
+	static void stopApi() {
+		api.close();
+	}
+
+	@BeforeEach
+	void clearRequests() {
+		api.requests().clear();
+	}
+
+	@Test
+	void pageCursorsArePassedOnAndLinked() throws Exception {
+		api.answer("GET", "/api/v1/employees", 200, """
+				[{"id":4,"firstName":"Ana","lastName":"Popovic","salary":50000,"province":"Kent","country":"England"}]""",
+				"X-Next-Cursor", "next-cursor", "X-Prev-Cursor", "prev-cursor");
+
+		mockMvc.perform(get("/allEmployees").param("size", "500").param("sort", "lastName").param("after", "cursor"))
+				.andExpect(status().isOk())
+				.andExpect(view().name("all-employees"))
+				.andExpect(content().string(containsString("Popovic")))
+				.andExpect(content().string(containsString("size=100&amp;sort=lastName&amp;after=next-cursor")))
+				.andExpect(content().string(containsString("size=100&amp;sort=lastName&amp;before=prev-cursor")));
+		mockMvc.perform(get("/allEmployees").param("before", "prev-cursor"))
+				.andExpect(status().isOk());
+
+		assertEquals("/api/v1/employees?limit=100&sort=lastName&after=cursor", api.requests().get(0).uri());
+		assertEquals("/api/v1/employees?limit=20&sort=id&before=prev-cursor", api.requests().get(1).uri());
+	}
+
+	@Test
+	void firstPageHasNoPreviousLink() throws Exception {
+		api.answer("GET", "/api/v1/employees", 200, """
+				[{"id":1,"firstName":"Ioana","lastName":"Popescu","salary":50000,"province":"Kent","country":"England"}]""",
+				"X-Next-Cursor", "next-cursor");
+
+		mockMvc.perform(get("/allEmployees").param("size", "1"))
+				.andExpect(status().isOk())
+				.andExpect(content().string(containsString("after=next-cursor")))
+				.andExpect(content().string(not(containsString("before="))));
+	}
+
+	@Test
+	void editRedirectsOnceTheApiHasUpdated() throws Exception {
+		api.answer("PUT", "/api/v1/employees/2", 200, """
+				{"id":2,"firstName":"Maria","lastName":"Anastasei","salary":60000,"province":"Iasi","country":"Romania","version":4}""");
+
+		mockMvc.perform(edit("2", "3"))
+				.andExpect(status().isFound())
+				.andExpect(redirectedUrl("/allEmployees"));
+
+		assertEquals(1, api.requests().size());
+		assertTrue(api.requests().get(0).body().contains("\"version\":3"), api.requests().get(0).body());
+	}
+
+	@Test
+	void deleteRedirectsOnceTheApiHasDeleted() throws Exception {
+		api.answer("DELETE", "/api/v1/employees/3", 200, null);
+
+		mockMvc.perform(get("/deleteEmployee").param("id", "3"))
+				.andExpect(status().isFound())
+				.andExpect(redirectedUrl("/allEmployees"));
+
+		assertEquals("DELETE /api/v1/employees/3", api.requests().get(0).method() + " " + api.requests().get(0).uri());
+	}
+
+	@Test
+	void editOfAStaleVersionIsShownAsAConflict() throws Exception {
+		api.answer("PUT", "/api/v1/employees/1", 409, """
+				{"status":409,"error":"Conflict"}""");
+
+		mockMvc.perform(edit("1", "0"))
+				.andExpect(status().isConflict())
+				.andExpect(view().name("error-page"))
+				.andExpect(content().string(containsString("changed by someone else")));
+	}
+
+	private static MockHttpServletRequestBuilder edit(String id, String version) {
+		return post("/editEmployeeSubmit").param("id", id).param("firstName", "Maria").param("lastName", "Anastasei")
+				.param("salary", "60000").param("province", "Iasi").param("country", "Romania")
+				.param("version", version);
+	}
+
+}
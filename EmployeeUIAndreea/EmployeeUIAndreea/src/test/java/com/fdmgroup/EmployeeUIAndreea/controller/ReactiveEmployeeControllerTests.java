@@ -0,0 +1,106 @@
+package com.fdmgroup.EmployeeUIAndreea.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fdmgroup.EmployeeUIAndreea.StubEmployeeApi;
+
+/**
+ * Checks that the {@code /reactive} pages are rendered asynchronously, once
+ * the employee API has answered through the load-balanced WebClient.
+ */
+@SpringBootTest(properties = "eureka.client.enabled=false")
+@AutoConfigureMockMvc
+class ReactiveEmployeeControllerTests {
+
+	private static final StubEmployeeApi api = StubEmployeeApi.start();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@DynamicPropertySource
+	static void employeeApi(DynamicPropertyRegistry registry) {
+		registry.add("spring.cloud.discovery.client.simple.instances.EMPLOYEE-API[0].uri", api::url);
+	}
+
+	@AfterAll
+	static void stopApi() {
+		api.close();
+	}
+
+	@BeforeEach
+	void clearRequests() {
+		api.requests().clear();
+	}
+
+	@Test
+	void pageIsRenderedWithTheLinksToItsNeighbours() throws Exception {
+		api.answer("GET", "/api/v1/employees", 200, """
+				[{"id":1,"firstName":"Ioana","lastName":"Popescu","salary":50000,"province":"Kent","country":"England"}]""",
+				"X-Next-Cursor", "next-cursor", "X-Prev-Cursor", "prev-cursor");
+
+		MvcResult result = mockMvc.perform(get("/reactive/allEmployees").param("size", "500")
+				.param("sort", "lastName").param("after", "cursor"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(view().name("all-employees"))
+				.andExpect(content().string(containsString("Popescu")))
+				.andExpect(content().string(containsString("sort=lastName&amp;after=next-cursor")))
+				.andExpect(content().string(containsString("sort=lastName&amp;before=prev-cursor")));
+
+		assertEquals("/api/v1/employees?limit=100&sort=lastName&after=cursor", api.requests().get(0).uri());
+	}
+
+	@Test
+	void submittedEmployeeIsCreatedBeforeRedirecting() throws Exception {
+		api.answer("POST", "/api/v1/employees", 201, """
+				{"id":6,"firstName":"Frodo","lastName":"Baggins","salary":40000,"province":"Shire","country":"Eriador"}""");
+
+		MvcResult result = mockMvc.perform(post("/reactive/addEmployeeSubmit").param("firstName", "Frodo")
+				.param("lastName", "Baggins").param("salary", "40000").param("province", "Shire")
+				.param("country", "Eriador"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(redirectedUrl("/reactive/allEmployees"));
+
+		assertEquals("POST", api.requests().get(0).method());
+		assertTrue(api.requests().get(0).body().contains("\"lastName\":\"Baggins\""));
+	}
+
+	@Test
+	void employeeIsDeletedBeforeRedirecting() throws Exception {
+		api.answer("DELETE", "/api/v1/employees/6", 200, null);
+
+		MvcResult result = mockMvc.perform(get("/reactive/deleteEmployee").param("id", "6"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(redirectedUrl("/reactive/allEmployees"));
+
+		assertEquals("DELETE /api/v1/employees/6", api.requests().get(0).method() + " " + api.requests().get(0).uri());
+	}
+
+}
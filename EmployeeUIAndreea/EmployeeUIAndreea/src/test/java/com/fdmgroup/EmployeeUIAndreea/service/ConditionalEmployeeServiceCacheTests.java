@@ -0,0 +1,109 @@
+package com.fdmgroup.EmployeeUIAndreea.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import com.fdmgroup.EmployeeUIAndreea.exception.NotModifiedException;
+import com.fdmgroup.EmployeeUIAndreea.model.Employee;
+import com.fdmgroup.EmployeeUIAndreea.model.EmployeePage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks that {@link ConditionalEmployeeService} serves fresh entries without
+ * calling the API, revalidates older ones with their ETag, and holds no more
+ * than {@code employee.ui.cache.max-employees} employees.
+ */
+class ConditionalEmployeeServiceCacheTests {
+
+	private static final Employee POPESCU = new Employee(1, "Ioana", "Popescu", new BigDecimal("50000"), "Kent",
+			"England");
+
+	private final FeignClientEmployeeService api = mock(FeignClientEmployeeService.class);
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void freshEntriesAreServedWithoutCallingTheApi() {
+		when(api.getById(anyLong(), any())).thenReturn(ResponseEntity.ok().eTag("\"1\"").body(POPESCU));
+		when(api.getEmployeePage(anyInt(), any(), any(), any(), any()))
+				.thenReturn(ResponseEntity.ok().eTag("\"1\"").body(List.of(POPESCU)));
+		ConditionalEmployeeService service = service(100, Duration.ofHours(1), true);
+		service.getById(1);
+		EmployeePage page = service.getPage("id", null, null, 10);
+
+		assertSame(POPESCU, service.getById(1));
+		assertSame(page, service.getPage("id", null, null, 10));
+		verify(api, times(1)).getById(anyLong(), any());
+		verify(api, times(1)).getEmployeePage(anyInt(), any(), any(), any(), any());
+		assertEquals(2, registry.counter("employee.reader.fresh").count());
+	}
+
+	@Test
+	void olderEntriesAreRevalidatedWithTheirETag() {
+		when(api.getById(eq(1L), isNull())).thenReturn(ResponseEntity.ok().eTag("\"1\"").body(POPESCU));
+		when(api.getById(1L, "\"1\"")).thenThrow(new NotModifiedException());
+		ConditionalEmployeeService service = service(100, Duration.ZERO, true);
+		service.getById(1);
+
+		assertSame(POPESCU, service.getById(1));
+		verify(api).getById(1L, "\"1\"");
+		assertEquals(1, registry.counter("employee.reader.revalidations", "result", "not_modified").count());
+	}
+
+	@Test
+	void olderEntriesAreFetchedAgainWithoutRevalidation() {
+		when(api.getById(anyLong(), any())).thenReturn(ResponseEntity.ok().eTag("\"1\"").body(POPESCU));
+		ConditionalEmployeeService service = service(100, Duration.ZERO, false);
+		service.getById(1);
+		service.getById(1);
+
+		verify(api, times(2)).getById(eq(1L), isNull());
+		assertEquals(2, registry.counter("employee.reader.revalidations", "result", "modified").count());
+	}
+
+	@Test
+	void cacheHoldsAtMostMaxEmployees() {
+		when(api.getById(anyLong(), any())).thenAnswer(invocation -> ResponseEntity.ok()
+				.body(new Employee(invocation.getArgument(0), "Ioana", "Popescu", new BigDecimal("50000"), "Kent",
+						"England")));
+		ConditionalEmployeeService service = service(10, Duration.ofHours(1), true);
+		for (long id = 1; id <= 50; id++) {
+			service.getById(id);
+		}
+		// Caffeine evicts on the common pool
+		assertTrue(ForkJoinPool.commonPool().awaitQuiescence(5, TimeUnit.SECONDS));
+
+		for (long id = 1; id <= 50; id++) {
+			assertEquals(id, service.getById(id).getId());
+		}
+		long calls = mockingDetails(api).getInvocations().size();
+		assertTrue(calls >= 50 + 40, "only " + (calls - 50) + " employees were fetched again");
+	}
+
+	private ConditionalEmployeeService service(long maxEmployees, Duration freshFor, boolean revalidate) {
+		return new ConditionalEmployeeService(api, registry, maxEmployees, 100, freshFor, Duration.ofMinutes(10),
+				revalidate, false);
+	}
+
+}
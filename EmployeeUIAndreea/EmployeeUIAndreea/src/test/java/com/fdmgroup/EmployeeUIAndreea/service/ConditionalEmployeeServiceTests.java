@@ -0,0 +1,117 @@
+package com.fdmgroup.EmployeeUIAndreea.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import com.fdmgroup.EmployeeUIAndreea.model.Employee;
+import com.fdmgroup.EmployeeUIAndreea.model.EmployeeDelta;
+import com.fdmgroup.EmployeeUIAndreea.model.EmployeePage;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks that {@link ConditionalEmployeeService} serves outdated data when the
+ * circuit breaker or bulkhead spares the API, and only then. Nothing is ever
+ * fresh, so every read calls the API.
+ */
+class ConditionalEmployeeServiceTests {
+
+	private static final Employee POPESCU = new Employee(1, "Ioana", "Popescu", new BigDecimal("50000"), "Kent",
+			"England");
+
+	private final FeignClientEmployeeService api = mock(FeignClientEmployeeService.class);
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+	private final CallNotPermittedException breakerOpen = CallNotPermittedException
+			.createCallNotPermittedException(CircuitBreaker.ofDefaults(ResilienceCapability.NAME));
+	private final BulkheadFullException bulkheadFull = BulkheadFullException
+			.createBulkheadFullException(Bulkhead.ofDefaults(ResilienceCapability.NAME));
+
+	@Test
+	void cachedPageIsServedWhenTheApiIsSpared() {
+		when(api.getEmployeePage(anyInt(), any(), any(), any(), any()))
+				.thenReturn(ResponseEntity.ok().eTag("\"1\"").header("X-Next-Cursor", "1").body(List.of(POPESCU)))
+				.thenThrow(breakerOpen)
+				.thenThrow(bulkheadFull);
+		ConditionalEmployeeService service = service(false);
+		EmployeePage page = service.getPage("id", null, null, 1);
+
+		assertSame(page, service.getPage("id", null, null, 1));
+		assertSame(page, service.getPage("id", null, null, 1));
+		assertEquals("1", page.nextCursor());
+		assertEquals(2, registry.counter("employee.reader.stale").count());
+	}
+
+	@Test
+	void cachedEmployeeIsServedWhenTheApiIsSpared() {
+		when(api.getById(anyLong(), any()))
+				.thenReturn(ResponseEntity.ok().eTag("\"1\"").body(POPESCU))
+				.thenThrow(bulkheadFull)
+				.thenThrow(breakerOpen);
+		ConditionalEmployeeService service = service(false);
+		service.getById(1);
+
+		assertSame(POPESCU, service.getById(1));
+		assertSame(POPESCU, service.getById(1));
+		assertEquals(2, registry.counter("employee.reader.stale").count());
+	}
+
+	@Test
+	void snapshotIsServedWhenTheApiIsSpared() {
+		when(api.getEmployeesModifiedSince(anyLong()))
+				.thenReturn(new EmployeeDelta(1, true, List.of(POPESCU), List.of()))
+				.thenThrow(bulkheadFull)
+				.thenThrow(breakerOpen);
+		ConditionalEmployeeService service = service(true);
+		service.getPage("id", null, null, 10);
+
+		assertEquals(List.of(POPESCU), service.getPage("id", null, null, 10).employees());
+		assertEquals(List.of(POPESCU), service.getPage("id", null, null, 10).employees());
+		assertEquals(2, registry.counter("employee.reader.stale").count());
+	}
+
+	@Test
+	void readsWithNothingCachedFail() {
+		when(api.getById(anyLong(), any())).thenThrow(breakerOpen);
+		when(api.getEmployeesModifiedSince(anyLong())).thenThrow(bulkheadFull);
+
+		assertThrows(CallNotPermittedException.class, () -> service(false).getById(1));
+		assertThrows(BulkheadFullException.class, () -> service(true).getPage("id", null, null, 10));
+	}
+
+	@Test
+	void otherFailuresAreNotAnsweredFromTheCache() {
+		IllegalStateException failure = new IllegalStateException("bad answer");
+		when(api.getById(anyLong(), any()))
+				.thenReturn(ResponseEntity.ok().eTag("\"1\"").body(POPESCU))
+				.thenThrow(failure);
+		ConditionalEmployeeService service = service(false);
+		service.getById(1);
+
+		assertSame(failure, assertThrows(IllegalStateException.class, () -> service.getById(1)));
+		assertEquals(0, registry.counter("employee.reader.stale").count());
+	}
+
+	private ConditionalEmployeeService service(boolean sync) {
+		return new ConditionalEmployeeService(api, registry, 100, 100, Duration.ZERO, Duration.ofMinutes(10), true,
+				sync);
+	}
+
+}
@@ -0,0 +1,123 @@
+package com.fdmgroup.EmployeeUIAndreea.service;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import com.fdmgroup.EmployeeUIAndreea.model.Employee;
+import com.fdmgroup.EmployeeUIAndreea.model.EmployeeDelta;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks that writes through {@link ConditionalEmployeeService} cache the
+ * employee the API returns, drop the cached pages and make the snapshot
+ * stale, and that a failed write drops the employee. Everything read is fresh
+ * for an hour, so any further API call is caused by a write.
+ */
+class ConditionalEmployeeServiceWriteTests {
+
+	private static final Employee POPESCU = new Employee(1, "Ioana", "Popescu", new BigDecimal("50000"), "Kent",
+			"England");
+	private static final Employee GAMGEE = new Employee(6, "Samwise", "Gamgee", new BigDecimal("40000"), "Shire",
+			"Eriador");
+
+	private final FeignClientEmployeeService api = mock(FeignClientEmployeeService.class);
+
+	@Test
+	void createdEmployeeIsCachedAndPagesAreDropped() {
+		when(api.getEmployeePage(anyInt(), any(), any(), any(), any()))
+				.thenReturn(ResponseEntity.ok().body(List.of(POPESCU)));
+		when(api.createEmployee(any())).thenReturn(GAMGEE);
+		ConditionalEmployeeService service = service(false);
+		service.getPage("id", null, null, 10);
+
+		service.createEmployee(new Employee());
+
+		assertSame(GAMGEE, service.getById(6));
+		verify(api, never()).getById(anyLong(), any());
+		service.getPage("id", null, null, 10);
+		verify(api, times(2)).getEmployeePage(anyInt(), any(), any(), any(), any());
+	}
+
+	@Test
+	void updatedEmployeeReplacesTheCachedOne() {
+		Employee updated = new Employee(1, "Ioana", "Popescu", new BigDecimal("60000"), "Kent", "England");
+		when(api.getById(anyLong(), any())).thenReturn(ResponseEntity.ok().eTag("\"1\"").body(POPESCU));
+		when(api.updateEmployee(1, updated)).thenReturn(updated);
+		ConditionalEmployeeService service = service(false);
+		service.getById(1);
+
+		service.updateEmployee(1, updated);
+
+		assertSame(updated, service.getById(1));
+		verify(api, times(1)).getById(anyLong(), any());
+	}
+
+	@Test
+	void deletedEmployeeIsDropped() {
+		when(api.getById(anyLong(), any())).thenReturn(ResponseEntity.ok().eTag("\"1\"").body(POPESCU));
+		ConditionalEmployeeService service = service(false);
+		service.getById(1);
+
+		service.deleteEmployee(1);
+
+		service.getById(1);
+		verify(api, times(2)).getById(anyLong(), any());
+	}
+
+	@Test
+	void failedWriteDropsTheEmployee() {
+		IllegalStateException conflict = new IllegalStateException("409 Conflict");
+		when(api.getById(anyLong(), any())).thenReturn(ResponseEntity.ok().eTag("\"1\"").body(POPESCU));
+		when(api.updateEmployee(anyLong(), any())).thenThrow(conflict);
+		doThrow(conflict).when(api).deleteEmployee(anyLong());
+		ConditionalEmployeeService service = service(false);
+		service.getById(1);
+
+		assertSame(conflict, assertThrows(IllegalStateException.class, () -> service.updateEmployee(1, POPESCU)));
+		service.getById(1);
+		assertSame(conflict, assertThrows(IllegalStateException.class, () -> service.deleteEmployee(1)));
+		service.getById(1);
+
+		verify(api, times(3)).getById(anyLong(), any());
+	}
+
+	@Test
+	void writeMakesTheSnapshotStale() {
+		when(api.getEmployeesModifiedSince(anyLong()))
+				.thenReturn(new EmployeeDelta(1, true, List.of(POPESCU), List.of()))
+				.thenReturn(new EmployeeDelta(2, false, List.of(GAMGEE), List.of()));
+		when(api.createEmployee(any())).thenReturn(GAMGEE);
+		ConditionalEmployeeService service = service(true);
+		service.getPage("id", null, null, 10);
+		service.getPage("id", null, null, 10);
+		verify(api, times(1)).getEmployeesModifiedSince(anyLong());
+
+		service.createEmployee(new Employee());
+
+		assertSame(GAMGEE, service.getPage("id", null, null, 10).employees().get(1));
+		verify(api).getEmployeesModifiedSince(1);
+	}
+
+	private ConditionalEmployeeService service(boolean sync) {
+		return new ConditionalEmployeeService(api, new SimpleMeterRegistry(), 100, 100, Duration.ofHours(1),
+				Duration.ofMinutes(10), true, sync);
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.fdmgroup.EmployeeUIAndreea.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fdmgroup.EmployeeUIAndreea.model.Employee;
+import com.fdmgroup.EmployeeUIAndreea.model.EmployeeDelta;
+import com.fdmgroup.EmployeeUIAndreea.model.EmployeePage;
+
+/**
+ * Checks that {@link EmployeeSnapshot} merges deltas and cuts the pages the
+ * API would return.
+ */
+class EmployeeSnapshotTests {
+
+	// Base64 of "3:Dascalu", the API's cursor for that employee in lastName order
+	private static final String DASCALU_CURSOR = "MzpEYXNjYWx1";
+
+	private final EmployeeSnapshot snapshot = EmployeeSnapshot.of(new EmployeeDelta(10, true,
+			List.of(employee(1, "Popescu"), employee(2, "Anastasei"), employee(3, "Dascalu"),
+					employee(4, "Popovic")),
+			List.of()));
+
+	@Test
+	void pagesFollowTheIdOrder() {
+		EmployeePage first = snapshot.page("id", null, null, 2);
+		assertEquals(List.of(1L, 2L), ids(first));
+		assertEquals("2", first.nextCursor());
+		assertNull(first.prevCursor());
+
+		EmployeePage second = snapshot.page("id", "2", null, 2);
+		assertEquals(List.of(3L, 4L), ids(second));
+		assertNull(second.nextCursor());
+		assertEquals("3", second.prevCursor());
+
+		assertEquals(List.of(1L, 2L), ids(snapshot.page("id", null, "3", 2)));
+	}
+
+	@Test
+	void lastNameCursorsAreThoseOfTheApi() {
+		EmployeePage first = snapshot.page("lastName", null, null, 2);
+		assertEquals(List.of("Anastasei", "Dascalu"), lastNames(first));
+		assertEquals(DASCALU_CURSOR, first.nextCursor());
+
+		assertEquals(List.of("Popescu", "Popovic"), lastNames(snapshot.page("lastName", DASCALU_CURSOR, null, 2)));
+		assertEquals(List.of("Anastasei"), lastNames(snapshot.page("lastName", null, DASCALU_CURSOR, 2)));
+	}
+
+	@Test
+	void malformedCursorsAreReadAsNoCursor() {
+		assertEquals(List.of(1L, 2L), ids(snapshot.page("id", "abc", null, 2)));
+		assertEquals(List.of("Anastasei", "Dascalu"), lastNames(snapshot.page("lastName", "!!", null, 2)));
+	}
+
+	@Test
+	void deltasReplaceAddAndDeleteEmployees() {
+		snapshot.merge(new EmployeeDelta(11, false, List.of(employee(2, "Zamfir"), employee(5, "Gamgee")),
+				List.of(3L)));
+
+		assertEquals(11, snapshot.token());
+		assertEquals(List.of(1L, 2L, 4L, 5L), ids(snapshot.page("id", null, null, 10)));
+		// The renamed employee has left its old place in the lastName order
+		assertEquals(List.of("Gamgee", "Popescu", "Popovic", "Zamfir"),
+				lastNames(snapshot.page("lastName", null, null, 10)));
+	}
+
+	@Test
+	void deletingAnUnknownEmployeeChangesNothing() {
+		snapshot.merge(new EmployeeDelta(11, false, List.of(), List.of(99L)));
+
+		assertEquals(List.of(1L, 2L, 3L, 4L), ids(snapshot.page("id", null, null, 10)));
+	}
+
+	private static Employee employee(long id, String lastName) {
+		return new Employee(id, "Ioana", lastName, new BigDecimal("50000"), "Kent", "England");
+	}
+
+	private static List<Long> ids(EmployeePage page) {
+		return page.employees().stream().map(Employee::getId).toList();
+	}
+
+	private static List<String> lastNames(EmployeePage page) {
+		return page.employees().stream().map(Employee::getLastName).toList();
+	}
+
+}
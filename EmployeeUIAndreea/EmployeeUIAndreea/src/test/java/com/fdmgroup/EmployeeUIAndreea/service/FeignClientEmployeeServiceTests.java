@@ -0,0 +1,70 @@
+package com.fdmgroup.EmployeeUIAndreea.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fdmgroup.EmployeeUIAndreea.StubEmployeeApi;
+import com.fdmgroup.EmployeeUIAndreea.model.Employee;
+
+/**
+ * Checks that {@link FeignClientEmployeeService} asks for gzipped responses,
+ * decompresses them, and reuses its pooled keep-alive connection.
+ */
+@SpringBootTest(properties = "eureka.client.enabled=false")
+class FeignClientEmployeeServiceTests {
+
+	private static final StubEmployeeApi api = StubEmployeeApi.start();
+
+	@Autowired
+	private FeignClientEmployeeService employeeService;
+
+	@DynamicPropertySource
+	static void employeeApi(DynamicPropertyRegistry registry) {
+		registry.add("spring.cloud.discovery.client.simple.instances.EMPLOYEE-API[0].uri", api::url);
+	}
+
+	@AfterAll
+	static void stopApi() {
+		api.close();
+	}
+
+	@BeforeEach
+	void clearRequests() {
+		api.requests().clear();
+	}
+
+	@Test
+	void gzippedResponseIsDecompressed() {
+		api.answer("GET", "/api/v1/employees/search-employees", 200, """
+				[{"id":1,"firstName":"Ioana","lastName":"Popescu","salary":50000,"province":"Kent","country":"England"}]""",
+				"Content-Encoding", "gzip");
+
+		List<Employee> employees = employeeService.findByFullNameContainsIgnoreCase("Popescu");
+
+		assertEquals("Popescu", employees.get(0).getLastName());
+		assertTrue(api.requests().get(0).headers().getFirst("Accept-Encoding").contains("gzip"));
+	}
+
+	@Test
+	void connectionIsReused() {
+		api.answer("GET", "/api/v1/employees/1", 200, """
+				{"id":1,"firstName":"Ioana","lastName":"Popescu","salary":50000,"province":"Kent","country":"England"}""");
+
+		for (int i = 0; i < 3; i++) {
+			employeeService.getById(1);
+		}
+
+		assertEquals(1, api.requests().stream().mapToInt(StubEmployeeApi.Request::clientPort).distinct().count());
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.fdmgroup.EmployeeUIAndreea.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.mock.env.MockEnvironment;
+
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+
+/**
+ * Checks that {@link MethodTimeoutsCapability} applies the timeouts of the
+ * called interface method and leaves other methods on the client-wide ones.
+ */
+class MethodTimeoutsCapabilityTests {
+
+	private static final Request.Options CLIENT_WIDE = new Request.Options(2, TimeUnit.SECONDS, 5, TimeUnit.SECONDS,
+			true);
+
+	private final AtomicReference<Request.Options> used = new AtomicReference<>();
+	private final Client client = (request, options) -> {
+		used.set(options);
+		return Response.builder().status(200).request(request).build();
+	};
+
+	@Test
+	void methodTimeoutsOverrideTheClientWideOnes() throws Exception {
+		MethodTimeoutsCapability capability = MethodTimeoutsCapability.from(new MockEnvironment()
+				.withProperty("employee.api.feign.read-timeout.getEmployeesModifiedSince", "10s")
+				.withProperty("employee.api.feign.connect-timeout.getEmployeesModifiedSince", "500ms"));
+
+		capability.enrich(client).execute(request("getEmployeesModifiedSince"), CLIENT_WIDE);
+
+		assertEquals(500, used.get().connectTimeoutMillis());
+		assertEquals(Duration.ofSeconds(10).toMillis(), used.get().readTimeoutMillis());
+		assertTrue(used.get().isFollowRedirects());
+	}
+
+	@Test
+	void otherMethodsKeepTheClientWideTimeouts() throws Exception {
+		MethodTimeoutsCapability capability = new MethodTimeoutsCapability(Map.of(),
+				Map.of("getEmployeesModifiedSince", Duration.ofSeconds(10)));
+
+		capability.enrich(client).execute(request("getById"), CLIENT_WIDE);
+
+		assertSame(CLIENT_WIDE, used.get());
+	}
+
+	@Test
+	void clientIsLeftAsItIsWithoutOverrides() {
+		assertSame(client, MethodTimeoutsCapability.from(new MockEnvironment()).enrich(client));
+	}
+
+	private static Request request(String method) {
+		MethodMetadata metadata = new SpringMvcContract().parseAndValidateMetadata(FeignClientEmployeeService.class)
+				.stream()
+				.filter(candidate -> candidate.method().getName().equals(method))
+				.findFirst().orElseThrow();
+		RequestTemplate template = new RequestTemplate();
+		template.methodMetadata(metadata);
+		return Request.create(Request.HttpMethod.GET, "http://localhost/api/v1/employees", Map.of(), null,
+				StandardCharsets.UTF_8, template);
+	}
+
+}
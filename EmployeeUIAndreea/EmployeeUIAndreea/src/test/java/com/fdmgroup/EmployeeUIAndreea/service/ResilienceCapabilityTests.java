@@ -0,0 +1,204 @@
+package com.fdmgroup.EmployeeUIAndreea.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.cloud.openfeign.loadbalancer.FeignBlockingLoadBalancerClient;
+
+import com.fdmgroup.EmployeeUIAndreea.model.Employee;
+import com.fdmgroup.EmployeeUIAndreea.model.EmployeeDelta;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+
+/**
+ * Checks the calls {@link ResilienceCapability} lets through to the employee
+ * API, with the load balancer and the API replaced by stubs.
+ */
+class ResilienceCapabilityTests {
+
+	private static final String API = "http://employee-api/api/v1/employees";
+	private static final ServiceInstance SLOW = new DefaultServiceInstance("slow", "employee-api", "slow", 8080, false);
+	private static final ServiceInstance FAST = new DefaultServiceInstance("fast", "employee-api", "fast", 8080, false);
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+	private final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults(ResilienceCapability.NAME);
+	private final Bulkhead bulkhead = Bulkhead.of(ResilienceCapability.NAME,
+			BulkheadConfig.custom().maxConcurrentCalls(2).build());
+	private final Retry retry = Retry.of(ResilienceCapability.NAME, RetryConfig.custom().maxAttempts(3)
+			.waitDuration(Duration.ofMillis(1)).retryExceptions(IOException.class).build());
+	private final LoadBalancerClient loadBalancer = mock(LoadBalancerClient.class);
+	private final LoadBalancerClientFactory loadBalancers = mock(LoadBalancerClientFactory.class);
+	private final CountDownLatch slowAnswers = new CountDownLatch(1);
+	private ResilienceCapability capability;
+
+	@AfterEach
+	void release() {
+		slowAnswers.countDown();
+		if (capability != null) {
+			capability.destroy();
+		}
+	}
+
+	@Test
+	void hedgedGetReturnsTheFirstAnswer() throws Exception {
+		ServiceInstanceListSupplier instances = mock(ServiceInstanceListSupplier.class);
+		when(instances.get()).thenReturn(Flux.just(List.of(SLOW, FAST)));
+		when(loadBalancers.getInstance("employee-api", ServiceInstanceListSupplier.class)).thenReturn(instances);
+		when(loadBalancer.choose("employee-api")).thenReturn(SLOW);
+		when(loadBalancer.reconstructURI(any(), any())).thenAnswer(invocation -> {
+			ServiceInstance instance = invocation.getArgument(0);
+			URI uri = invocation.getArgument(1);
+			return URI.create("http://" + instance.getHost() + ":" + instance.getPort() + uri.getPath());
+		});
+		Client direct = (request, options) -> {
+			if (URI.create(request.url()).getHost().equals("slow")) {
+				await(slowAnswers);
+			}
+			return response(request, 200, URI.create(request.url()).getHost());
+		};
+
+		Response response = hedged(direct).execute(request(Request.HttpMethod.GET), new Request.Options());
+
+		assertEquals(200, response.status());
+		assertEquals("fast", body(response));
+		assertEquals(1, registry.counter("employee.api.hedges").count());
+		// Counted by the hedge once it has answered
+		long deadline = System.currentTimeMillis() + 5000;
+		while (registry.counter("employee.api.hedges.won").count() == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertEquals(1, registry.counter("employee.api.hedges.won").count());
+	}
+
+	@Test
+	void otherMethodsAreSentOnceThroughTheLoadBalancer() throws Exception {
+		Client direct = mock(Client.class);
+		AtomicInteger calls = new AtomicInteger();
+		FeignBlockingLoadBalancerClient loadBalanced = mock(FeignBlockingLoadBalancerClient.class);
+		when(loadBalanced.getDelegate()).thenReturn(direct);
+		when(loadBalanced.execute(any(), any())).thenAnswer(invocation -> {
+			calls.incrementAndGet();
+			return response(invocation.getArgument(0), 503, "busy");
+		});
+		Client client = capability(Duration.ofMillis(1)).enrich(loadBalanced);
+
+		for (Request.HttpMethod method : List.of(Request.HttpMethod.POST, Request.HttpMethod.PUT,
+				Request.HttpMethod.DELETE)) {
+			assertEquals(503, client.execute(request(method), new Request.Options()).status());
+		}
+
+		assertEquals(3, calls.get());
+		verifyNoInteractions(direct, loadBalancer);
+		assertEquals(0, registry.counter("employee.api.hedges").count());
+	}
+
+	@Test
+	void getsAreRetriedOnUnavailableAnswers() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		Client api = (request, options) -> {
+			calls.incrementAndGet();
+			return response(request, 503, "busy");
+		};
+		Client client = capability(null).enrich(api);
+
+		Response response = client.execute(request(Request.HttpMethod.GET), new Request.Options());
+
+		assertEquals(503, response.status());
+		assertEquals("busy", body(response));
+		assertEquals(3, calls.get());
+	}
+
+	@Test
+	void openCircuitBreakerRejectsCallsAndPagesComeFromTheSnapshot() throws Exception {
+		Client api = mock(Client.class);
+		Client client = capability(null).enrich(api);
+		circuitBreaker.transitionToOpenState();
+
+		CallNotPermittedException rejected = assertThrows(CallNotPermittedException.class,
+				() -> client.execute(request(Request.HttpMethod.GET), new Request.Options()));
+		verifyNoInteractions(api);
+
+		FeignClientEmployeeService employeeService = mock(FeignClientEmployeeService.class);
+		Employee employee = new Employee(1, "Ioana", "Popescu", new BigDecimal("50000"), "Kent", "England");
+		when(employeeService.getEmployeesModifiedSince(anyLong()))
+				.thenReturn(new EmployeeDelta(1, true, List.of(employee), List.of()))
+				.thenThrow(rejected);
+		ConditionalEmployeeService service = new ConditionalEmployeeService(employeeService, registry, 100, 100,
+				Duration.ZERO, Duration.ofMinutes(10), true, true);
+		service.getPage("id", null, null, 10);
+
+		assertSame(employee, service.getPage("id", null, null, 10).employees().get(0));
+		assertEquals(1, registry.counter("employee.reader.stale").count());
+	}
+
+	private Client hedged(Client direct) {
+		FeignBlockingLoadBalancerClient loadBalanced = mock(FeignBlockingLoadBalancerClient.class);
+		when(loadBalanced.getDelegate()).thenReturn(direct);
+		return capability(Duration.ofMillis(50)).enrich(loadBalanced);
+	}
+
+	private ResilienceCapability capability(Duration hedgeDelay) {
+		capability = new ResilienceCapability(circuitBreaker, bulkhead, retry, loadBalancer, loadBalancers,
+				hedgeDelay, registry);
+		return capability;
+	}
+
+	private static Request request(Request.HttpMethod method) {
+		return Request.create(method, API, Map.of(), null, StandardCharsets.UTF_8, null);
+	}
+
+	private static Response response(Request request, int status, String body) {
+		return Response.builder().request(request).status(status).reason(body).headers(Map.of())
+				.body(body, StandardCharsets.UTF_8).build();
+	}
+
+	private static String body(Response response) throws IOException {
+		return Util.toString(response.body().asReader(StandardCharsets.UTF_8));
+	}
+
+	private static void await(CountDownLatch latch) throws IOException {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		}
+	}
+
+}
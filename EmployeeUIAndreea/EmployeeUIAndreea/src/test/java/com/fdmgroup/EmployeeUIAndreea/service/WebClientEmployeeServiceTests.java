@@ -0,0 +1,60 @@
+package com.fdmgroup.EmployeeUIAndreea.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.loadbalancer.reactive.LoadBalancedExchangeFilterFunction;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fdmgroup.EmployeeUIAndreea.model.Employee;
+import com.fdmgroup.EmployeeUIAndreea.model.EmployeePage;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Checks the requests {@link WebClientEmployeeService} sends for keyset pages,
+ * with the employee API replaced by a stub exchange.
+ */
+class WebClientEmployeeServiceTests {
+
+	@Test
+	void pageIsRequestedWithItsCursorAndCarriesTheNeighbours() {
+		AtomicReference<URI> requested = new AtomicReference<>();
+		ExchangeFunction api = request -> {
+			requested.set(request.url());
+			return Mono.just(ClientResponse.create(HttpStatus.OK)
+					.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+					.header("X-Next-Cursor", "NzpJb25lc2N1")
+					.body("[{\"id\":7,\"firstName\":\"Ioana\",\"lastName\":\"Ionescu\"}]")
+					.build());
+		};
+		WebClientEmployeeService service = service(api);
+
+		EmployeePage page = service.getPage(20, "lastName", "MzpEYXNjYWx1", null).block(Duration.ofSeconds(5));
+
+		assertEquals("/api/v1/employees", requested.get().getPath());
+		assertEquals("limit=20&sort=lastName&after=MzpEYXNjYWx1", requested.get().getQuery());
+		assertEquals(List.of(7L), page.employees().stream().map(Employee::getId).toList());
+		assertEquals("NzpJb25lc2N1", page.nextCursor());
+		assertNull(page.prevCursor());
+		service.close();
+	}
+
+	private static WebClientEmployeeService service(ExchangeFunction api) {
+		LoadBalancedExchangeFilterFunction loadBalancer = (request, next) -> next.exchange(request);
+		return new WebClientEmployeeService(WebClient.builder().exchangeFunction(api), loadBalancer, 10,
+				Duration.ofSeconds(1), Duration.ofSeconds(30), Duration.ofSeconds(1), Duration.ofSeconds(1));
+	}
+
+}
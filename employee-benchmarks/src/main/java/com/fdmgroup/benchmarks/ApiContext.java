@@ -0,0 +1,85 @@
+package com.fdmgroup.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fdmgroup.EmployeeApiAndreea.EmployeeApiAndreeaApplication;
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+
+/**
+ * Starts the employee API in-process for benchmarking: no Eureka, a random
+ * port, and only warnings logged so console output does not skew the numbers.
+ */
+final class ApiContext {
+
+	static final int SEED_EMPLOYEES = 1000;
+
+	// Passed as command-line arguments so they take precedence over
+	// application.properties
+	private static final String[] ARGS = { "--eureka.client.enabled=false", "--server.port=0",
+			"--spring.main.banner-mode=off", "--spring.jpa.show-sql=false", "--logging.level.root=WARN" };
+
+	private ApiContext() {
+	}
+
+	/**
+	 * Starts the API application.
+	 *
+	 * @param type {@link WebApplicationType#NONE} for the service layer only, or
+	 *             {@link WebApplicationType#SERVLET} for the full web stack
+	 * @return the running application context
+	 */
+	static ConfigurableApplicationContext start(WebApplicationType type) {
+		return start(type, new String[0]);
+	}
+
+	/**
+	 * Starts the API application with some of the default arguments replaced.
+	 *
+	 * @param type      {@link WebApplicationType#NONE} for the service layer
+	 *                  only, or {@link WebApplicationType#SERVLET} for the full
+	 *                  web stack
+	 * @param overrides {@code --name=value} arguments, replacing any default
+	 *                  with the same name
+	 * @return the running application context
+	 */
+	static ConfigurableApplicationContext start(WebApplicationType type, String... overrides) {
+		// Spring joins repeated command-line arguments with commas, so merge by name
+		Map<String, String> args = new LinkedHashMap<>();
+		for (String arg : ARGS) {
+			args.put(arg.substring(0, arg.indexOf('=')), arg);
+		}
+		for (String arg : overrides) {
+			args.put(arg.substring(0, arg.indexOf('=')), arg);
+		}
+		return new SpringApplicationBuilder(EmployeeApiAndreeaApplication.class).web(type)
+				.run(args.values().toArray(new String[0]));
+	}
+
+	/**
+	 * Builds valid, unsaved employees spread over a few countries and provinces.
+	 *
+	 * @param count the number of employees
+	 * @return the employees
+	 */
+	static List<Employee> employees(int count) {
+		List<Employee> employees = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			employees.add(employee(i));
+		}
+		return employees;
+	}
+
+	static Employee employee(int i) {
+		return new Employee(0, "First" + i, "Last" + i, BigDecimal.valueOf(25_000 + (i % 100) * 1_000L),
+				"Province" + (i % 10), "Country" + (i % 3));
+	}
+
+}
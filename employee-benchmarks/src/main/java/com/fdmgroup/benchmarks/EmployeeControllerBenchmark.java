@@ -0,0 +1,104 @@
+package com.fdmgroup.benchmarks;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fdmgroup.EmployeeApiAndreea.model.BatchItemResult;
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeService;
+
+/**
+ * End-to-end request handling by the employee controller through MockMvc:
+ * dispatch, argument binding, validation, the service and JSON rendering,
+ * without the network. The table is seeded with
+ * {@value ApiContext#SEED_EMPLOYEES} employees.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeControllerBenchmark {
+
+	private static final String EMPLOYEES = "/api/v1/employees";
+
+	private ConfigurableApplicationContext context;
+	private MockMvc mockMvc;
+	private ObjectMapper objectMapper;
+	private long[] ids;
+	private String etag;
+	private byte[] newEmployee;
+
+	@Setup
+	public void setUp() throws Exception {
+		context = ApiContext.start(WebApplicationType.SERVLET);
+		mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+		objectMapper = context.getBean(ObjectMapper.class);
+		ids = context.getBean(EmployeeService.class).addEmployees(ApiContext.employees(ApiContext.SEED_EMPLOYEES))
+				.stream().mapToLong(BatchItemResult::getId).toArray();
+		etag = mockMvc.perform(get(EMPLOYEES + "/{id}", ids[0])).andReturn().getResponse()
+				.getHeader(HttpHeaders.ETAG);
+		newEmployee = objectMapper.writeValueAsBytes(ApiContext.employee(0));
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public MvcResult getEmployee() throws Exception {
+		return mockMvc.perform(get(EMPLOYEES + "/{id}", randomId())).andReturn();
+	}
+
+	@Benchmark
+	public MvcResult getEmployeeNotModified() throws Exception {
+		return mockMvc.perform(get(EMPLOYEES + "/{id}", randomId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andReturn();
+	}
+
+	@Benchmark
+	public MvcResult getPage() throws Exception {
+		return mockMvc.perform(get(EMPLOYEES).param("limit", "100").param("after", String.valueOf(randomId())))
+				.andReturn();
+	}
+
+	@Benchmark
+	public MvcResult createAndDelete() throws Exception {
+		MvcResult created = mockMvc
+				.perform(post(EMPLOYEES).contentType(MediaType.APPLICATION_JSON).content(newEmployee)).andReturn();
+		Employee employee = objectMapper.readValue(created.getResponse().getContentAsByteArray(), Employee.class);
+		return mockMvc.perform(delete(EMPLOYEES + "/{id}", employee.getId())).andReturn();
+	}
+
+	private long randomId() {
+		return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.fdmgroup.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+
+/**
+ * Jackson serialization and deserialization of {@link Employee}, one at a time
+ * and as a page of 100, with an object mapper configured the way Spring MVC
+ * configures its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeJsonBenchmark {
+
+	private static final TypeReference<List<Employee>> EMPLOYEE_LIST = new TypeReference<>() {
+	};
+
+	private ObjectMapper objectMapper;
+	private Employee employee;
+	private List<Employee> page;
+	private byte[] employeeJson;
+	private byte[] pageJson;
+
+	@Setup
+	public void setUp() throws Exception {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		page = ApiContext.employees(100);
+		employee = page.get(0);
+		employeeJson = objectMapper.writeValueAsBytes(employee);
+		pageJson = objectMapper.writeValueAsBytes(page);
+	}
+
+	@Benchmark
+	public byte[] serializeEmployee() throws Exception {
+		return objectMapper.writeValueAsBytes(employee);
+	}
+
+	@Benchmark
+	public Employee deserializeEmployee() throws Exception {
+		return objectMapper.readValue(employeeJson, Employee.class);
+	}
+
+	@Benchmark
+	public byte[] serializePage() throws Exception {
+		return objectMapper.writeValueAsBytes(page);
+	}
+
+	@Benchmark
+	public List<Employee> deserializePage() throws Exception {
+		return objectMapper.readValue(pageJson, EMPLOYEE_LIST);
+	}
+
+}
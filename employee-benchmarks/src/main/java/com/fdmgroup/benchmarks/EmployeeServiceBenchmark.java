@@ -0,0 +1,95 @@
+package com.fdmgroup.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fdmgroup.EmployeeApiAndreea.model.BatchItemResult;
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeePatch;
+import com.fdmgroup.EmployeeApiAndreea.model.EmployeeSort;
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeChangeCounter;
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeService;
+
+/**
+ * {@link EmployeeService} operations against the in-memory H2 datasource, with
+ * the service's caches, search index and statistics in place. The table is
+ * seeded with {@value ApiContext#SEED_EMPLOYEES} employees.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeServiceBenchmark {
+
+	private ConfigurableApplicationContext context;
+	private EmployeeService employeeService;
+	private EmployeeChangeCounter changeCounter;
+	private long[] ids;
+
+	@Setup
+	public void setUp() {
+		context = ApiContext.start(WebApplicationType.NONE);
+		employeeService = context.getBean(EmployeeService.class);
+		changeCounter = context.getBean(EmployeeChangeCounter.class);
+		List<BatchItemResult> results = employeeService.addEmployees(ApiContext.employees(ApiContext.SEED_EMPLOYEES));
+		ids = results.stream().mapToLong(BatchItemResult::getId).toArray();
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	// Reads the change log offset first, as GET /api/v1/employees/{id} does
+	@Benchmark
+	public Employee findById() {
+		return employeeService.findById(randomId(), changeCounter.current().position());
+	}
+
+	@Benchmark
+	public List<Employee> findPage() {
+		return employeeService.findPage(EmployeeSort.ID, new EmployeeSort.Key(null, randomId()), false, 100);
+	}
+
+	@Benchmark
+	public List<Employee> searchByFullName() {
+		return employeeService.searchByFullName("last1", 100);
+	}
+
+	@Benchmark
+	public Employee patchEmployee() {
+		EmployeePatch patch = new EmployeePatch();
+		patch.setSalary(ApiContext.employee(ThreadLocalRandom.current().nextInt(100)).getSalary());
+		return employeeService.patchEmployee(patch, randomId());
+	}
+
+	@Benchmark
+	public Employee createUpdateDelete() {
+		Employee employee = employeeService.addEmployee(ApiContext.employee(0));
+		Employee updated = employeeService.updateEmployee(ApiContext.employee(1), employee.getId());
+		employeeService.deleteById(employee.getId());
+		return updated;
+	}
+
+	private long randomId() {
+		return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+	}
+
+}
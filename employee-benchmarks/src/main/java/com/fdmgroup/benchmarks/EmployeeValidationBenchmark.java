@@ -0,0 +1,67 @@
+package com.fdmgroup.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fdmgroup.EmployeeApiAndreea.model.Employee;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Bean validation of {@link Employee}, as done for {@code @Valid} request
+ * bodies, for a valid employee and for one breaking every constraint (which
+ * also pays for message interpolation).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeValidationBenchmark {
+
+	private ValidatorFactory validatorFactory;
+	private Validator validator;
+	private Employee valid;
+	private Employee invalid;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+		validator = validatorFactory.getValidator();
+		valid = ApiContext.employee(1);
+		invalid = new Employee(0, "", "x", BigDecimal.ONE, "", "");
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Employee>> validateValid() {
+		return validator.validate(valid);
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<Employee>> validateInvalid() {
+		return validator.validate(invalid);
+	}
+
+}
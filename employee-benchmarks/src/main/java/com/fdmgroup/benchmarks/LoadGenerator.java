@@ -0,0 +1,220 @@
+package com.fdmgroup.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeService;
+
+/**
+ * Closed-loop HTTP load generator for the employee API. A fixed number of
+ * workers each send one request at a time for the given duration, after a
+ * warm-up whose results are discarded, and the run reports throughput and
+ * p50/p99/max latency.
+ * <p>
+ * The request mix is 80% {@code GET /{id}}, 15% {@code GET ?limit=100} and 5%
+ * {@code PATCH /{id}}. Without {@code --url} the API is started in-process and
+ * seeded with {@value ApiContext#SEED_EMPLOYEES} employees; options named
+ * {@code --api.<property>} are then passed to it as {@code --<property>}.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.fdmgroup.benchmarks.LoadGenerator \
+ *     --threads=16 --warmup=10 --duration=30 [--url=http://localhost:8089] \
+ *     [--api.employee.threads.virtual.enabled=true]
+ * </pre>
+ */
+public final class LoadGenerator {
+
+	private static final String EMPLOYEES = "/api/v1/employees";
+	private static final String API_OPTION = "api.";
+
+	private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+	private final String baseUrl;
+	private final long[] ids;
+
+	private LoadGenerator(String baseUrl, long[] ids) {
+		this.baseUrl = baseUrl;
+		this.ids = ids;
+	}
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = parse(args);
+		int threads = Integer.parseInt(options.getOrDefault("threads", "8"));
+		Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+		Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+		String url = options.get("url");
+
+		ConfigurableApplicationContext context = null;
+		if (url == null) {
+			context = ApiContext.start(WebApplicationType.SERVLET, apiArguments(options));
+			context.getBean(EmployeeService.class).addEmployees(ApiContext.employees(ApiContext.SEED_EMPLOYEES));
+			url = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+		}
+		try {
+			LoadGenerator generator = new LoadGenerator(url, fetchIds(url));
+			System.out.printf("Load test against %s with %d threads: %ds warm-up, %ds measured%n", url, threads,
+					warmup.toSeconds(), duration.toSeconds());
+			generator.run(threads, warmup);
+			Result result = generator.run(threads, duration);
+			System.out.println(result);
+		} finally {
+			if (context != null) {
+				context.close();
+			}
+		}
+	}
+
+	private Result run(int threads, Duration duration) throws Exception {
+		long deadline = System.nanoTime() + duration.toNanos();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Recorder>> futures = new ArrayList<>(threads);
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> work(deadline)));
+			}
+			List<Recorder> recorders = new ArrayList<>(threads);
+			for (Future<Recorder> future : futures) {
+				recorders.add(future.get());
+			}
+			return Result.of(recorders, duration);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private Recorder work(long deadline) {
+		Recorder recorder = new Recorder();
+		while (System.nanoTime() < deadline) {
+			HttpRequest request = nextRequest();
+			long start = System.nanoTime();
+			boolean ok;
+			try {
+				ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+			} catch (Exception e) {
+				ok = false;
+			}
+			recorder.record(System.nanoTime() - start, ok);
+		}
+		return recorder;
+	}
+
+	private HttpRequest nextRequest() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long id = ids[random.nextInt(ids.length)];
+		int pick = random.nextInt(100);
+		if (pick < 80) {
+			return HttpRequest.newBuilder(URI.create(baseUrl + EMPLOYEES + "/" + id)).GET().build();
+		}
+		if (pick < 95) {
+			return HttpRequest.newBuilder(URI.create(baseUrl + EMPLOYEES + "?limit=100&after=" + id)).GET().build();
+		}
+		String patch = "{\"salary\":" + (25_000 + random.nextInt(100) * 1_000) + "}";
+		return HttpRequest.newBuilder(URI.create(baseUrl + EMPLOYEES + "/" + id))
+				.header("Content-Type", "application/json")
+				.method("PATCH", HttpRequest.BodyPublishers.ofString(patch)).build();
+	}
+
+	private static long[] fetchIds(String url) throws Exception {
+		HttpResponse<byte[]> response = HttpClient.newHttpClient().send(
+				HttpRequest.newBuilder(URI.create(url + EMPLOYEES + "?limit=1000")).GET().build(),
+				HttpResponse.BodyHandlers.ofByteArray());
+		JsonNode employees = new ObjectMapper().readTree(response.body());
+		long[] ids = new long[employees.size()];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = employees.get(i).get("id").asLong();
+		}
+		if (ids.length == 0) {
+			throw new IllegalStateException("No employees found at " + url);
+		}
+		return ids;
+	}
+
+	private static String[] apiArguments(Map<String, String> options) {
+		return options.entrySet().stream().filter(option -> option.getKey().startsWith(API_OPTION))
+				.map(option -> "--" + option.getKey().substring(API_OPTION.length()) + "=" + option.getValue())
+				.toArray(String[]::new);
+	}
+
+	private static Map<String, String> parse(String[] args) {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			int eq = arg.indexOf('=');
+			if (!arg.startsWith("--") || eq < 0) {
+				throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+			}
+			options.put(arg.substring(2, eq), arg.substring(eq + 1));
+		}
+		return options;
+	}
+
+	// Latencies of one worker, in nanoseconds
+	private static class Recorder {
+
+		private long[] latencies = new long[1 << 14];
+		private int count;
+		private long errors;
+
+		void record(long latency, boolean ok) {
+			if (count == latencies.length) {
+				latencies = Arrays.copyOf(latencies, count * 2);
+			}
+			latencies[count++] = latency;
+			if (!ok) {
+				errors++;
+			}
+		}
+	}
+
+	private record Result(long requests, long errors, double throughput, long p50, long p99, long max) {
+
+		static Result of(List<Recorder> recorders, Duration duration) {
+			long[] all = new long[recorders.stream().mapToInt(r -> r.count).sum()];
+			int offset = 0;
+			long errors = 0;
+			for (Recorder recorder : recorders) {
+				System.arraycopy(recorder.latencies, 0, all, offset, recorder.count);
+				offset += recorder.count;
+				errors += recorder.errors;
+			}
+			Arrays.sort(all);
+			double throughput = all.length / (duration.toNanos() / 1e9);
+			return new Result(all.length, errors, throughput, percentile(all, 50), percentile(all, 99),
+					all.length == 0 ? 0 : all[all.length - 1]);
+		}
+
+		// Nearest-rank percentile of sorted values
+		private static long percentile(long[] sorted, int p) {
+			if (sorted.length == 0) {
+				return 0;
+			}
+			int rank = (int) Math.ceil(sorted.length * p / 100.0);
+			return sorted[Math.max(0, rank - 1)];
+		}
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ROOT,
+					"requests=%d errors=%d throughput=%.1f req/s p50=%.3f ms p99=%.3f ms max=%.3f ms", requests,
+					errors, throughput, p50 / 1e6, p99 / 1e6, max / 1e6);
+		}
+	}
+
+}
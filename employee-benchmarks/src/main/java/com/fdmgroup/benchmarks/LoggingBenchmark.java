@@ -0,0 +1,104 @@
+package com.fdmgroup.benchmarks;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.fdmgroup.EmployeeApiAndreea.model.BatchItemResult;
+import com.fdmgroup.EmployeeApiAndreea.service.EmployeeService;
+
+/**
+ * Request throughput under two logging setups. {@code verbose} is the old
+ * behaviour: every SQL statement printed and formatted, and an entry and exit
+ * line for every controller and service call. {@code production} is the
+ * {@code prod} profile: no per-request output and asynchronous appenders.
+ * <p>
+ * Console output goes to a temporary file during the run so the terminal
+ * does not become the bottleneck, as it would not be on a server.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 8, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+	private static final String EMPLOYEES = "/api/v1/employees";
+
+	@Param({ "verbose", "production" })
+	public String logging;
+
+	private PrintStream console;
+	private File log;
+	private ConfigurableApplicationContext context;
+	private MockMvc mockMvc;
+	private long[] ids;
+
+	@Setup
+	public void setUp() throws Exception {
+		console = System.out;
+		log = File.createTempFile("logging-benchmark", ".log");
+		System.setOut(new PrintStream(new FileOutputStream(log), false));
+		context = ApiContext.start(WebApplicationType.SERVLET, arguments());
+		mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+		ids = context.getBean(EmployeeService.class).addEmployees(ApiContext.employees(ApiContext.SEED_EMPLOYEES))
+				.stream().mapToLong(BatchItemResult::getId).toArray();
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+		System.out.close();
+		System.setOut(console);
+		log.delete();
+	}
+
+	@Benchmark
+	public MvcResult getEmployee() throws Exception {
+		return mockMvc.perform(get(EMPLOYEES + "/{id}", randomId())).andReturn();
+	}
+
+	@Benchmark
+	public MvcResult getPage() throws Exception {
+		return mockMvc.perform(get(EMPLOYEES).param("limit", "100").param("after", String.valueOf(randomId())))
+				.andReturn();
+	}
+
+	private String[] arguments() {
+		if ("verbose".equals(logging)) {
+			return new String[] { "--logging.level.root=INFO", "--spring.jpa.show-sql=true",
+					"--spring.jpa.properties.hibernate.format_sql=true", "--employee.logging.entry-exit.enabled=true",
+					"--logging.level.com.fdmgroup.EmployeeApiAndreea=TRACE" };
+		}
+		return new String[] { "--logging.level.root=INFO", "--spring.profiles.active=prod" };
+	}
+
+	private long randomId() {
+		return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+	}
+
+}
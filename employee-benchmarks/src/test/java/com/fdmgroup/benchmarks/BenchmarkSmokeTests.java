@@ -0,0 +1,79 @@
+package com.fdmgroup.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Runs every benchmark method once, outside JMH, and the load generator for a
+ * second, so that a change to the API that breaks a benchmark fails the build
+ * rather than the next benchmark run.
+ */
+class BenchmarkSmokeTests {
+
+	@ParameterizedTest
+	@ValueSource(classes = { EmployeeJsonBenchmark.class, EmployeeValidationBenchmark.class,
+			EmployeeServiceBenchmark.class, EmployeeControllerBenchmark.class })
+	void everyBenchmarkRuns(Class<?> benchmark) throws Exception {
+		runOnce(benchmark.getConstructor().newInstance());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "verbose", "production" })
+	void loggingBenchmarkRunsWithEitherConfiguration(String logging) throws Exception {
+		LoggingBenchmark benchmark = new LoggingBenchmark();
+		benchmark.logging = logging;
+		runOnce(benchmark);
+	}
+
+	@Test
+	void loadGeneratorReportsLatencies() throws Exception {
+		PrintStream console = System.out;
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+		try {
+			LoadGenerator.main(new String[] { "--threads=2", "--warmup=0", "--duration=1" });
+		} finally {
+			System.setOut(console);
+		}
+		String report = output.toString(StandardCharsets.UTF_8);
+		assertTrue(report.matches("(?s).*requests=[1-9]\\d* errors=0 throughput=.* p50=.* p99=.*"), report);
+	}
+
+	private static void runOnce(Object benchmark) throws Exception {
+		invokeAll(benchmark, Setup.class);
+		try {
+			for (Method method : annotated(benchmark, Benchmark.class)) {
+				assertNotNull(method.invoke(benchmark), method::getName);
+			}
+		} finally {
+			invokeAll(benchmark, TearDown.class);
+		}
+	}
+
+	private static void invokeAll(Object benchmark, Class<? extends Annotation> annotation) throws Exception {
+		for (Method method : annotated(benchmark, annotation)) {
+			method.invoke(benchmark);
+		}
+	}
+
+	private static List<Method> annotated(Object benchmark, Class<? extends Annotation> annotation) {
+		return Arrays.stream(benchmark.getClass().getMethods()).filter(method -> method.isAnnotationPresent(annotation))
+				.toList();
+	}
+
+}